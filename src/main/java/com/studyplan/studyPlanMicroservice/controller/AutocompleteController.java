@@ -0,0 +1,59 @@
+package com.studyplan.studyPlanMicroservice.controller;
+
+import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.service.AutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+@Tag(name = "Autocomplete", description = "Typeahead suggestions for universities, careers and usernames")
+@CrossOrigin(origins = "*")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @GetMapping("/universities")
+    @Operation(summary = "Suggest university names starting with the typed text (any word, accent-insensitive)")
+    public ResponseEntity<ApiResponse<List<String>>> universities(
+            @Parameter(description = "Typed prefix")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions")
+            @RequestParam(defaultValue = "10") Integer limit) {
+        List<String> suggestions = autocompleteService.completeUniversities(q, clamp(limit));
+        return ResponseEntity.ok(ApiResponse.success(suggestions, "Suggestions retrieved"));
+    }
+
+    @GetMapping("/careers")
+    @Operation(summary = "Suggest study plan careers starting with the typed text (any word, accent-insensitive)")
+    public ResponseEntity<ApiResponse<List<String>>> careers(
+            @Parameter(description = "Typed prefix")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions")
+            @RequestParam(defaultValue = "10") Integer limit) {
+        List<String> suggestions = autocompleteService.completeCareers(q, clamp(limit));
+        return ResponseEntity.ok(ApiResponse.success(suggestions, "Suggestions retrieved"));
+    }
+
+    @GetMapping("/usernames")
+    @Operation(summary = "Suggest usernames starting with the typed text")
+    public ResponseEntity<ApiResponse<List<String>>> usernames(
+            @Parameter(description = "Typed prefix")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions")
+            @RequestParam(defaultValue = "10") Integer limit) {
+        List<String> suggestions = autocompleteService.completeUsernames(q, clamp(limit));
+        return ResponseEntity.ok(ApiResponse.success(suggestions, "Suggestions retrieved"));
+    }
+
+    private int clamp(Integer limit) {
+        return Math.min(Math.max(limit, 1), 50);
+    }
+}
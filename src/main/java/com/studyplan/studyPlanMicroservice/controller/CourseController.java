@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -69,9 +70,16 @@ public class CourseController {
     @GetMapping("/study-plan/{studyPlanId}")
     @Operation(summary = "Get courses by study plan")
     public ResponseEntity<ApiResponse<List<CourseData>>> getCoursesByStudyPlan(
-            @PathVariable Integer studyPlanId) {
+            @PathVariable Integer studyPlanId, WebRequest request) {
+        // Answers If-None-Match with 304 straight from the plan's catalog version
+        String etag = courseService.getStudyPlanCatalogETag(studyPlanId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         List<CourseData> courses = courseService.getCoursesByStudyPlan(studyPlanId);
-        return ResponseEntity.ok(ApiResponse.success(courses, "Courses retrieved"));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(courses, "Courses retrieved"));
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,92 @@
+package com.studyplan.studyPlanMicroservice.controller;
+
+import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.FeedEventData;
+import com.studyplan.studyPlanMicroservice.data.PageResponse;
+import com.studyplan.studyPlanMicroservice.data.UserData;
+import com.studyplan.studyPlanMicroservice.service.FollowGraphService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/follows")
+@RequiredArgsConstructor
+@Tag(name = "Follows", description = "Follow relationships and friends' progress feed")
+@CrossOrigin(origins = "*")
+public class FollowController {
+
+    private final FollowGraphService followGraphService;
+
+    @PostMapping("/{userId}/following/{targetUserId}")
+    @Operation(summary = "Follow a user (no-op if already following)")
+    public ResponseEntity<ApiResponse<Void>> follow(
+            @Parameter(description = "User who follows") @PathVariable Integer userId,
+            @Parameter(description = "User to follow") @PathVariable Integer targetUserId) {
+        followGraphService.follow(userId, targetUserId);
+        return ResponseEntity.ok(ApiResponse.success(null, "User followed"));
+    }
+
+    @DeleteMapping("/{userId}/following/{targetUserId}")
+    @Operation(summary = "Unfollow a user (no-op if not following)")
+    public ResponseEntity<ApiResponse<Void>> unfollow(
+            @Parameter(description = "User who unfollows") @PathVariable Integer userId,
+            @Parameter(description = "User to unfollow") @PathVariable Integer targetUserId) {
+        followGraphService.unfollow(userId, targetUserId);
+        return ResponseEntity.ok(ApiResponse.success(null, "User unfollowed"));
+    }
+
+    @GetMapping("/{userId}/followers")
+    @Operation(summary = "List the followers of a user, ordered by user id")
+    public ResponseEntity<ApiResponse<PageResponse<UserData>>> getFollowers(
+            @PathVariable Integer userId,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size) {
+        PageResponse<UserData> followers = followGraphService.getFollowers(userId, page, size);
+        return ResponseEntity.ok(ApiResponse.success(followers, "Followers retrieved"));
+    }
+
+    @GetMapping("/{userId}/following")
+    @Operation(summary = "List the users a user follows, ordered by user id")
+    public ResponseEntity<ApiResponse<PageResponse<UserData>>> getFollowing(
+            @PathVariable Integer userId,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size) {
+        PageResponse<UserData> following = followGraphService.getFollowing(userId, page, size);
+        return ResponseEntity.ok(ApiResponse.success(following, "Following retrieved"));
+    }
+
+    @GetMapping("/{userId}/mutual")
+    @Operation(summary = "List users who follow each other with the given user")
+    public ResponseEntity<ApiResponse<PageResponse<UserData>>> getMutual(
+            @PathVariable Integer userId,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size) {
+        PageResponse<UserData> mutual = followGraphService.getMutual(userId, page, size);
+        return ResponseEntity.ok(ApiResponse.success(mutual, "Mutual follows retrieved"));
+    }
+
+    @GetMapping("/{userId}/mutual/{otherUserId}")
+    @Operation(summary = "Check whether two users follow each other")
+    public ResponseEntity<ApiResponse<Boolean>> isMutual(@PathVariable Integer userId, @PathVariable Integer otherUserId) {
+        boolean mutual = followGraphService.isMutual(userId, otherUserId);
+        return ResponseEntity.ok(ApiResponse.success(mutual, mutual ? "Users follow each other" : "Users do not follow each other"));
+    }
+
+    @GetMapping("/{userId}/feed")
+    @Operation(summary = "Recent course progress of the users this user follows, newest first")
+    public ResponseEntity<ApiResponse<List<FeedEventData>>> getFeed(
+            @PathVariable Integer userId,
+            @Parameter(description = "Sequence of the last event already seen (for the next page)")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "Maximum number of events")
+            @RequestParam(defaultValue = "20") Integer limit) {
+        List<FeedEventData> events = followGraphService.getFeed(userId, before, Math.min(Math.max(limit, 1), 100));
+        return ResponseEntity.ok(ApiResponse.success(events, "Feed retrieved"));
+    }
+}
@@ -0,0 +1,32 @@
+package com.studyplan.studyPlanMicroservice.controller;
+
+import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.GraduationPlanData;
+import com.studyplan.studyPlanMicroservice.service.GraduationPlanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/graduation-plan")
+@RequiredArgsConstructor
+@Tag(name = "Graduation Plan", description = "Term-by-term planning of the remaining courses")
+@CrossOrigin(origins = "*")
+public class GraduationPlanController {
+
+    private final GraduationPlanService graduationPlanService;
+
+    @GetMapping("/user/{userId}/study-plan/{studyPlanId}")
+    @Operation(summary = "Plan the remaining courses of a user term by term",
+            description = "Respects prerequisites, corequisites and the per-term credit cap. Courses in progress count as finished this term.")
+    public ResponseEntity<ApiResponse<GraduationPlanData>> planGraduation(
+            @PathVariable Integer userId,
+            @PathVariable Integer studyPlanId,
+            @RequestParam(required = false) Integer maxCredits,
+            @RequestParam(defaultValue = "true") boolean improve) {
+        GraduationPlanData plan = graduationPlanService.planGraduation(userId, studyPlanId, maxCredits, improve);
+        return ResponseEntity.ok(ApiResponse.success(plan, "Graduation plan computed"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.studyplan.studyPlanMicroservice.controller;
+
+import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.LeaderboardEntryData;
+import com.studyplan.studyPlanMicroservice.data.PageResponse;
+import com.studyplan.studyPlanMicroservice.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@Tag(name = "Leaderboard", description = "Student rankings within a study plan")
+@CrossOrigin(origins = "*")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping("/study-plan/{studyPlanId}")
+    @Operation(summary = "Rank the students of a study plan by approved credits or by progress")
+    public ResponseEntity<ApiResponse<PageResponse<LeaderboardEntryData>>> getLeaderboard(
+            @PathVariable Integer studyPlanId,
+            @Parameter(description = "CREDITS (default) or PROGRESS")
+            @RequestParam(defaultValue = LeaderboardService.BY_CREDITS) String by,
+            @RequestParam(defaultValue = "0") Integer page,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "10") Integer size) {
+        PageResponse<LeaderboardEntryData> result = leaderboardService.getLeaderboard(studyPlanId, by, page, Math.min(Math.max(size, 1), 100));
+        return ResponseEntity.ok(ApiResponse.success(result, "Leaderboard retrieved"));
+    }
+
+    @GetMapping("/study-plan/{studyPlanId}/user/{userId}")
+    @Operation(summary = "Get a student's rank within a study plan")
+    public ResponseEntity<ApiResponse<LeaderboardEntryData>> getUserRank(
+            @PathVariable Integer studyPlanId,
+            @PathVariable Integer userId,
+            @Parameter(description = "CREDITS (default) or PROGRESS")
+            @RequestParam(defaultValue = LeaderboardService.BY_CREDITS) String by) {
+        LeaderboardEntryData entry = leaderboardService.getUserRank(studyPlanId, userId, by);
+        return ResponseEntity.ok(ApiResponse.success(entry, "Rank retrieved"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.studyplan.studyPlanMicroservice.controller;
+
+import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.PlanSyncJobData;
+import com.studyplan.studyPlanMicroservice.service.PlanSyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/plan-sync")
+@RequiredArgsConstructor
+@Tag(name = "Plan Sync", description = "Background propagation of plan changes to enrolled students")
+@CrossOrigin(origins = "*")
+public class PlanSyncController {
+
+    private final PlanSyncService planSyncService;
+
+    @PostMapping("/study-plan/{studyPlanId}")
+    @Operation(summary = "Request a sync of a study plan's courses to all enrolled students")
+    public ResponseEntity<ApiResponse<PlanSyncJobData>> requestSync(@PathVariable Integer studyPlanId) {
+        PlanSyncJobData job = planSyncService.requestSync(studyPlanId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Plan sync scheduled"));
+    }
+
+    @GetMapping("/study-plan/{studyPlanId}")
+    @Operation(summary = "Get the latest sync job of a study plan")
+    public ResponseEntity<ApiResponse<PlanSyncJobData>> getLatestJob(@PathVariable Integer studyPlanId) {
+        PlanSyncJobData job = planSyncService.getLatestJob(studyPlanId);
+        return ResponseEntity.ok(ApiResponse.success(job, "Plan sync job retrieved"));
+    }
+
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "Get plan sync job status")
+    public ResponseEntity<ApiResponse<PlanSyncJobData>> getJob(@PathVariable Integer id) {
+        PlanSyncJobData job = planSyncService.getJob(id);
+        return ResponseEntity.ok(ApiResponse.success(job, "Plan sync job retrieved"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.studyplan.studyPlanMicroservice.controller;
+
+import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.service.ProgressService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/progress")
+@RequiredArgsConstructor
+@Tag(name = "Progress", description = "Materialized user plan progress")
+@CrossOrigin(origins = "*")
+public class ProgressController {
+
+    private final ProgressService progressService;
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Recompute progress rows from student courses, for one study plan or for all of them")
+    public ResponseEntity<ApiResponse<Integer>> rebuild(@RequestParam(required = false) Integer studyPlanId) {
+        int rows = studyPlanId != null ? progressService.rebuildPlan(studyPlanId) : progressService.rebuildAll();
+        return ResponseEntity.ok(ApiResponse.success(rows, "Progress rebuilt"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.studyplan.studyPlanMicroservice.controller;
+
+import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.SearchResultData;
+import com.studyplan.studyPlanMicroservice.service.CatalogSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Ranked search over study plans and courses")
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+    private final CatalogSearchService catalogSearchService;
+
+    @GetMapping
+    @Operation(summary = "Search study plans and courses by name, career or code (accent-insensitive, prefix matching)")
+    public ResponseEntity<ApiResponse<List<SearchResultData>>> search(
+            @Parameter(description = "Search text")
+            @RequestParam String q,
+            @Parameter(description = "STUDY_PLAN or COURSE (optional filter)")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Maximum number of results")
+            @RequestParam(defaultValue = "20") Integer limit) {
+        List<SearchResultData> results = catalogSearchService.search(q, type, Math.min(Math.max(limit, 1), 100));
+        return ResponseEntity.ok(ApiResponse.success(results, "Search results retrieved"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.studyplan.studyPlanMicroservice.controller;
 
 import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.SimulationData;
 import com.studyplan.studyPlanMicroservice.data.StudentCourseData;
 import com.studyplan.studyPlanMicroservice.service.StudentCourseService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,6 +35,24 @@ public class StudentCourseController {
         return ResponseEntity.ok(ApiResponse.success(saved, "Student course saved"));
     }
 
+    @PostMapping("/user/{userId}/batch")
+    @Operation(summary = "Create or update many student course statuses of a user in one transaction")
+    public ResponseEntity<ApiResponse<List<StudentCourseData>>> updateStudentCoursesBatch(
+            @PathVariable Integer userId,
+            @RequestBody List<StudentCourseData> updates) {
+        List<StudentCourseData> saved = studentCourseService.updateStudentCoursesBatch(userId, updates);
+        return ResponseEntity.ok(ApiResponse.success(saved, "Student courses saved"));
+    }
+
+    @PostMapping("/user/{userId}/simulate")
+    @Operation(summary = "Simulate status changes and return what would unlock or lock, without saving anything")
+    public ResponseEntity<ApiResponse<SimulationData>> simulate(
+            @PathVariable Integer userId,
+            @RequestBody List<StudentCourseData> changes) {
+        SimulationData result = studentCourseService.simulate(userId, changes);
+        return ResponseEntity.ok(ApiResponse.success(result, "Simulation computed"));
+    }
+
     @PostMapping("/initialize")
     @Operation(summary = "Initialize student plan with default statuses")
     public ResponseEntity<ApiResponse<Void>> initializeStudentPlan(
@@ -1,6 +1,7 @@
 package com.studyplan.studyPlanMicroservice.controller;
 
 import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.CursorPageResponse;
 import com.studyplan.studyPlanMicroservice.data.PageResponse;
 import com.studyplan.studyPlanMicroservice.data.StudyPlanData;
 import com.studyplan.studyPlanMicroservice.service.StudyPlanService;
@@ -53,6 +54,28 @@ public class StudyPlanController {
         return ResponseEntity.ok(ApiResponse.success(studyPlan, "Study plan retrieved"));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll study plans ordered by name with keyset pagination")
+    public ResponseEntity<ApiResponse<CursorPageResponse<StudyPlanData>>> scrollStudyPlans(
+            @Parameter(description = "Study plan name (optional filter)")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Career name (optional filter)")
+            @RequestParam(required = false) String career,
+            @RequestParam(required = false) String yearLevel,
+            @Parameter(description = "University ID (optional filter)")
+            @RequestParam(required = false) Integer universityId,
+            @Parameter(description = "Status (optional filter)")
+            @RequestParam(required = false) Boolean status,
+            @Parameter(description = "Cursor returned by the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "10") Integer size,
+            @Parameter(description = "Also count the total number of matching rows")
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<StudyPlanData> result = studyPlanService.scrollStudyPlans(name, career, yearLevel, universityId, status, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(result, "Study plans retrieved successfully"));
+    }
+
     @GetMapping
     @Operation(summary = "Get all study plans with pagination and optional filters")
     public ResponseEntity<ApiResponse<PageResponse<StudyPlanData>>> getAllStudyPlans(
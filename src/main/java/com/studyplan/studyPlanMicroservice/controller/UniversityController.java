@@ -1,6 +1,7 @@
 package com.studyplan.studyPlanMicroservice.controller;
 
 import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.CursorPageResponse;
 import com.studyplan.studyPlanMicroservice.data.PageResponse;
 import com.studyplan.studyPlanMicroservice.data.UniversityData;
 import com.studyplan.studyPlanMicroservice.service.UniversityService;
@@ -38,6 +39,25 @@ public class UniversityController {
         return ResponseEntity.ok(ApiResponse.success(university, "University retrieved"));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll universities ordered by name with keyset pagination")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UniversityData>>> scrollUniversities(
+            @Parameter(description = "University name (optional filter)")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Country (optional filter)")
+            @RequestParam(required = false) String country,
+            @Parameter(description = "Status (optional filter)")
+            @RequestParam(required = false) Boolean status,
+            @Parameter(description = "Cursor returned by the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "10") Integer size,
+            @Parameter(description = "Also count the total number of matching rows")
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<UniversityData> result = universityService.scrollUniversities(name, country, status, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(result, "Universities retrieved successfully"));
+    }
+
     @GetMapping
     @Operation(summary = "Get all universities with pagination and optional filters")
     public ResponseEntity<ApiResponse<PageResponse<UniversityData>>> getAllUniversities(
@@ -1,6 +1,7 @@
 package com.studyplan.studyPlanMicroservice.controller;
 
 import com.studyplan.studyPlanMicroservice.data.ApiResponse;
+import com.studyplan.studyPlanMicroservice.data.CursorPageResponse;
 import com.studyplan.studyPlanMicroservice.data.PageResponse;
 import com.studyplan.studyPlanMicroservice.data.UserData;
 import com.studyplan.studyPlanMicroservice.service.UserService;
@@ -59,6 +60,23 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(user, "User retrieved"));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll users ordered by email with keyset pagination")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserData>>> scrollUsers(
+            @Parameter(description = "Email (optional filter)")
+            @RequestParam(required = false) String email,
+            @Parameter(description = "Type: free or premium (optional filter)")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Cursor returned by the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "10") Integer size,
+            @Parameter(description = "Also count the total number of matching rows")
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<UserData> result = userService.scrollUsers(email, type, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(result, "Users retrieved"));
+    }
+
     @GetMapping
     @Operation(summary = "Get all users with pagination and optional filters")
     public ResponseEntity<ApiResponse<PageResponse<UserData>>> getAllUsers(
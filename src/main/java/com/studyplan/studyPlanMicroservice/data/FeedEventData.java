@@ -0,0 +1,24 @@
+package com.studyplan.studyPlanMicroservice.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedEventData {
+    // Increasing across all feeds; pass the last one seen as "before" to get the next page
+    private Long sequence;
+    private Integer idUser;
+    private Integer idStudyPlan;
+    private Integer idCourse;
+    private String courseName;
+    private Integer idStatus;
+    private String statusName;
+    private LocalDateTime dateEvent;
+}
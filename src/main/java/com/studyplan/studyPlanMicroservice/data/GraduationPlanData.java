@@ -0,0 +1,26 @@
+package com.studyplan.studyPlanMicroservice.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GraduationPlanData {
+    private Integer idUser;
+    private Integer idStudyPlan;
+    private String typePeriod;
+    private Integer maxCreditsPerTerm;
+    private Integer totalTerms;
+    private Integer remainingCourses;
+    private Integer remainingCredits;
+    private List<PlannedTermData> terms;
+
+    // Remaining courses that can never be taken (missing external prerequisite or a requirement cycle)
+    private List<CourseData> unschedulableCourses;
+}
@@ -0,0 +1,21 @@
+package com.studyplan.studyPlanMicroservice.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntryData {
+    // Users with equal scores share a rank
+    private Integer rank;
+    private Integer idUser;
+    private String username;
+    private String fullName;
+    private Integer approvedCourses;
+    private Integer approvedCredits;
+    private Double progress;
+}
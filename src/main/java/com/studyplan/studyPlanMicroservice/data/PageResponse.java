@@ -38,4 +38,17 @@ public class PageResponse<T> {
                 .hasPrevious(page.hasPrevious())
                 .build();
     }
+
+    // For content that was mapped in bulk rather than element by element
+    public static <U> PageResponse<U> of(Page<?> page, List<U> content) {
+        return PageResponse.<U>builder()
+                .content(content)
+                .currentPage(page.getNumber())
+                .totalPages(page.getTotalPages())
+                .totalElements(page.getTotalElements())
+                .pageSize(page.getSize())
+                .hasNext(page.hasNext())
+                .hasPrevious(page.hasPrevious())
+                .build();
+    }
 }
@@ -0,0 +1,34 @@
+package com.studyplan.studyPlanMicroservice.data;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanSyncJobData {
+    private Integer idPlanSyncJob;
+    private Integer idStudyPlan;
+    private String status;
+    private Integer processedUsers;
+    private Integer totalUsers;
+    private Integer failedUsers;
+    private List<Integer> failedUserIds;
+    private String errorMessage;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dateCreated;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dateStarted;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dateFinished;
+}
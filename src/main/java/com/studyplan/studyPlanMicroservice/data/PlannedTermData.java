@@ -0,0 +1,18 @@
+package com.studyplan.studyPlanMicroservice.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlannedTermData {
+    private Integer termNumber;
+    private Integer totalCredits;
+    private List<CourseData> courses;
+}
@@ -0,0 +1,20 @@
+package com.studyplan.studyPlanMicroservice.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultData {
+    private String type; // STUDY_PLAN or COURSE
+    private Integer id;
+    private String code;
+    private String name;
+    private String detail; // career for study plans
+    private Integer idStudyPlan;
+    private Integer score;
+}
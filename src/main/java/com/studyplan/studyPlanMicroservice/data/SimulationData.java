@@ -0,0 +1,22 @@
+package com.studyplan.studyPlanMicroservice.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Outcome of a what-if status change; nothing is persisted
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulationData {
+    private Integer idUser;
+    private List<StudentCourseData> newlyAvailable;
+    private List<StudentCourseData> newlyLocked;
+    private Integer approvedCoursesDelta;
+    private Integer approvedCreditsDelta;
+    private Integer availableCreditsDelta;
+}
@@ -0,0 +1,16 @@
+package com.studyplan.studyPlanMicroservice.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Lightweight projection of a student_courses row used by the unlock evaluation
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentCourseStatusRow {
+    private Integer idStudentCourse;
+    private Integer idCourse;
+    private Integer idStudyPlan;
+    private Integer idStatus;
+}
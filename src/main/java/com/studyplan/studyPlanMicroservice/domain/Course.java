@@ -5,9 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.Locale;
 
 @Entity
-@Table(name = "course")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
+@Table(name = "course", indexes = @Index(name = "idx_course_code_normalized", columnList = "dsc_code_normalized"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,4 +48,18 @@ public class Course {
 
     @Column(name = "description", length = 500)
     private String description;
+
+    // Canonical, indexed form of dscCode; lookups compare against this instead of TRIM(dsc_code)
+    @Column(name = "dsc_code_normalized", length = 50)
+    private String dscCodeNormalized;
+
+    @PrePersist
+    @PreUpdate
+    void syncNormalizedCode() {
+        dscCodeNormalized = normalizeCode(dscCode);
+    }
+
+    public static String normalizeCode(String code) {
+        return code == null ? null : code.trim().toUpperCase(Locale.ROOT);
+    }
 }
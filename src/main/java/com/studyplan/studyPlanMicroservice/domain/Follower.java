@@ -7,7 +7,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "follower")
+@Table(name = "follower",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follower_pair", columnNames = {"id_user", "follower_user_id"}),
+        indexes = {
+                @Index(name = "idx_follower_user", columnList = "id_user"),
+                @Index(name = "idx_follower_follower_user", columnList = "follower_user_id")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,60 @@
+package com.studyplan.studyPlanMicroservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "plan_sync_job")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanSyncJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_plan_sync_job")
+    private Integer idPlanSyncJob;
+
+    @Column(name = "id_study_plan", nullable = false)
+    private Integer idStudyPlan;
+
+    // PENDING, RUNNING, COMPLETED or FAILED
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    // Resume cursor: enrolled users are processed in id order
+    @Column(name = "last_user_id")
+    private Integer lastUserId;
+
+    @Column(name = "processed_users", nullable = false)
+    private Integer processedUsers;
+
+    @Column(name = "total_users")
+    private Integer totalUsers;
+
+    // Users whose sync failed; they are skipped and the job carries on
+    @Column(name = "failed_users", nullable = false)
+    private Integer failedUsers;
+
+    // Comma-separated ids of the first failed users (capped to the column length)
+    @Column(name = "failed_user_ids", length = 1000)
+    private String failedUserIds;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "date_created", nullable = false)
+    private LocalDateTime dateCreated;
+
+    @Column(name = "date_started")
+    private LocalDateTime dateStarted;
+
+    @Column(name = "date_finished")
+    private LocalDateTime dateFinished;
+}
@@ -5,9 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "requirement")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "requirement")
+@Table(name = "requirement", indexes = @Index(name = "idx_requirement_course_requirement", columnList = "id_course_requirement"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
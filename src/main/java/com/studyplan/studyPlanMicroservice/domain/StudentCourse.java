@@ -7,7 +7,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "student_courses")
+@Table(name = "student_courses",
+        uniqueConstraints = @UniqueConstraint(name = "uk_student_course_user_course", columnNames = {"id_user", "id_course"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,15 +19,15 @@ public class StudentCourse {
     @Column(name = "id_student_course")
     private Integer idStudentCourse;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_status", nullable = false)
     private Status status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_user", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_course", nullable = false)
     private Course course;
 
@@ -5,9 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "study_plan")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "study-plan")
+@Table(name = "study_plan", indexes = @Index(name = "idx_study_plan_name_id", columnList = "dsc_name, id_study_plan"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
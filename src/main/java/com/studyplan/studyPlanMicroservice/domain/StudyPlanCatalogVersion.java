@@ -0,0 +1,28 @@
+package com.studyplan.studyPlanMicroservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Counter bumped by every course or requirement write of a plan; the course listing's ETag on every instance
+@Entity
+@Table(name = "study_plan_catalog_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudyPlanCatalogVersion {
+    @Id
+    @Column(name = "id_study_plan")
+    private Integer idStudyPlan;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "date_updated")
+    private LocalDateTime dateUpdated;
+}
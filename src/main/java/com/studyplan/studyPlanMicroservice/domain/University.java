@@ -5,9 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "university")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "university")
+@Table(name = "university", indexes = @Index(name = "idx_university_name_id", columnList = "dsc_name, id_university"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
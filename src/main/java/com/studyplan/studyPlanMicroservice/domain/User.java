@@ -43,6 +43,7 @@ public class User {
     @Column(name = "type", nullable = false, length = 50)
     private String type;
 
-    @Column(name = "last_login")
+    // Written only by the batched last-login flush, so profile saves never overwrite a newer value
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
 }
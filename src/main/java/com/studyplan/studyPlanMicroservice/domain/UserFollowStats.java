@@ -0,0 +1,31 @@
+package com.studyplan.studyPlanMicroservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Materialized follower/following counts of a user, adjusted with every follow change
+@Entity
+@Table(name = "user_follow_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserFollowStats {
+    @Id
+    @Column(name = "id_user")
+    private Integer idUser;
+
+    @Column(name = "followers_count", nullable = false)
+    private Long followersCount;
+
+    @Column(name = "following_count", nullable = false)
+    private Long followingCount;
+
+    @Column(name = "date_updated")
+    private LocalDateTime dateUpdated;
+}
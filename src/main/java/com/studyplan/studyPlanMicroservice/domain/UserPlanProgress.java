@@ -0,0 +1,39 @@
+package com.studyplan.studyPlanMicroservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Materialized progress of a user in one of their study plans, kept up to date incrementally
+@Entity
+@Table(name = "user_plan_progress")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(UserPlanId.class)
+public class UserPlanProgress {
+    @Id
+    @Column(name = "id_user")
+    private Integer idUser;
+
+    @Id
+    @Column(name = "id_study_plan")
+    private Integer idStudyPlan;
+
+    @Column(name = "approved_courses", nullable = false)
+    private Integer approvedCourses;
+
+    @Column(name = "total_courses", nullable = false)
+    private Integer totalCourses;
+
+    @Column(name = "approved_credits", nullable = false)
+    private Integer approvedCredits;
+
+    @Column(name = "date_updated")
+    private LocalDateTime dateUpdated;
+}
@@ -1,20 +1,27 @@
 package com.studyplan.studyPlanMicroservice.jpa;
 
 import com.studyplan.studyPlanMicroservice.domain.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Integer> {
+public interface CourseRepository extends JpaRepository<Course, Integer>, CourseRepositoryCustom {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Course> findByIdStudyPlan(Integer studyPlanId);
 
-    @Query("SELECT c FROM Course c WHERE TRIM(c.dscCode) = TRIM(:courseCode)")
-    Optional<Course> findByDscCode(String courseCode);
+    Optional<Course> findByDscCodeNormalized(String dscCodeNormalized);
 
     List<Course> findByDscLevel(String level);
 
@@ -23,8 +30,19 @@ public interface CourseRepository extends JpaRepository<Course, Integer> {
     @Query("SELECT c FROM Course c WHERE c.idStudyPlan = :studyPlanId AND c.dscLevel = :level AND c.dscPeriod = :period")
     List<Course> findByStudyPlanAndLevelAndPeriod(Integer studyPlanId, String level, String period);
 
-    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM Course c WHERE TRIM(c.dscCode) = TRIM(:courseCode)")
-    boolean existsByDscCode(String courseCode);
-
     long countByIdStudyPlan(Integer idStudyPlan);
+
+    List<Course> findByDscCodeNormalizedIn(Collection<String> normalizedCodes);
+
+    @Query("SELECT c.dscCode FROM Course c WHERE c.dscCodeNormalized IN :normalizedCodes")
+    List<String> findExistingCodes(@Param("normalizedCodes") Collection<String> normalizedCodes);
+
+    // [normalizedCode, idCourse] pairs for the in-memory code index
+    @Query("SELECT c.dscCodeNormalized, c.idCourse FROM Course c")
+    List<Object[]> findAllCodeIds();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE course SET dsc_code_normalized = UPPER(TRIM(dsc_code)) WHERE dsc_code_normalized IS NULL", nativeQuery = true)
+    int backfillNormalizedCodes();
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.domain.Course;
+
+import java.util.List;
+
+public interface CourseRepositoryCustom {
+
+    // Inserts all courses in a single JDBC batch; generated ids are not written back
+    void batchInsert(List<Course> courses);
+}
@@ -0,0 +1,25 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<Course> courses) {
+        if (courses.isEmpty()) return;
+        List<Object[]> args = courses.stream()
+                .map(c -> new Object[]{c.getIdStudyPlan(), c.getDscCode(), Course.normalizeCode(c.getDscCode()), c.getDscName(),
+                        c.getDscLevel(), c.getDscPeriod(), c.getTypeCourse(), c.getNumCredits(), c.getDescription()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO course (id_study_plan, dsc_code, dsc_code_normalized, dsc_name, dsc_level, dsc_period, type_course, num_credits, description) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", args);
+    }
+}
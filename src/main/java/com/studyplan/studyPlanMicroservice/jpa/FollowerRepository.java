@@ -2,10 +2,27 @@ package com.studyplan.studyPlanMicroservice.jpa;
 
 import com.studyplan.studyPlanMicroservice.domain.Follower;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface FollowerRepository extends JpaRepository<Follower, Integer> {
     long countByIdUser(Integer idUser); // Followers
     long countByFollowerUserId(Integer followerUserId); // Following
+
+    boolean existsByIdUserAndFollowerUserId(Integer idUser, Integer followerUserId);
+
+    @Query("SELECT f.followerUserId FROM Follower f WHERE f.idUser = :userId")
+    List<Integer> findFollowerIds(@Param("userId") Integer userId);
+
+    @Query("SELECT f.idUser FROM Follower f WHERE f.followerUserId = :userId")
+    List<Integer> findFollowingIds(@Param("userId") Integer userId);
+
+    @Modifying
+    @Query("DELETE FROM Follower f WHERE f.idUser = :idUser AND f.followerUserId = :followerUserId")
+    int deleteFollow(@Param("idUser") Integer idUser, @Param("followerUserId") Integer followerUserId);
 }
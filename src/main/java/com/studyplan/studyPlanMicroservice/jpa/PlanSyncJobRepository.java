@@ -0,0 +1,17 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.domain.PlanSyncJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlanSyncJobRepository extends JpaRepository<PlanSyncJob, Integer> {
+    Optional<PlanSyncJob> findFirstByIdStudyPlanAndStatusOrderByIdPlanSyncJobAsc(Integer idStudyPlan, String status);
+    Optional<PlanSyncJob> findFirstByIdStudyPlanAndStatusInOrderByIdPlanSyncJobAsc(Integer idStudyPlan, Collection<String> statuses);
+    Optional<PlanSyncJob> findFirstByIdStudyPlanOrderByIdPlanSyncJobDesc(Integer idStudyPlan);
+    List<PlanSyncJob> findByStatusIn(Collection<String> statuses);
+}
@@ -1,15 +1,30 @@
 package com.studyplan.studyPlanMicroservice.jpa;
 
 import com.studyplan.studyPlanMicroservice.domain.Requirement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface RequirementRepository extends JpaRepository<Requirement, Integer> {
+public interface RequirementRepository extends JpaRepository<Requirement, Integer>, RequirementRepositoryCustom {
     List<Requirement> findByIdCourse(Integer idCourse);
     List<Requirement> findByIdCourseRequirement(Integer idCourseRequirement);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT r FROM Requirement r WHERE r.idCourse IN (SELECT c.idCourse FROM Course c WHERE c.idStudyPlan = :studyPlanId)")
+    List<Requirement> findByStudyPlan(@Param("studyPlanId") Integer studyPlanId);
+
+    // Plans owning a course that requires one of the given courses; requirements may cross plans
+    @Query("SELECT DISTINCT c.idStudyPlan FROM Requirement r, Course c WHERE c.idCourse = r.idCourse AND r.idCourseRequirement IN :courseIds")
+    List<Integer> findDependentPlanIds(@Param("courseIds") Collection<Integer> courseIds);
+
     void deleteByIdCourse(Integer idCourse);
     void deleteByIdCourseRequirement(Integer idCourseRequirement);
 }
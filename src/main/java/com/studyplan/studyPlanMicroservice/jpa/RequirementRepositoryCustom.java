@@ -0,0 +1,11 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.domain.Requirement;
+
+import java.util.List;
+
+public interface RequirementRepositoryCustom {
+
+    // Inserts all requirements in a single JDBC batch; generated ids are not written back
+    void batchInsert(List<Requirement> requirements);
+}
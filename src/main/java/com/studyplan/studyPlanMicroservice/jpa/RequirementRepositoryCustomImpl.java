@@ -0,0 +1,23 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.domain.Requirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class RequirementRepositoryCustomImpl implements RequirementRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<Requirement> requirements) {
+        if (requirements.isEmpty()) return;
+        List<Object[]> args = requirements.stream()
+                .map(r -> new Object[]{r.getIdCourse(), r.getIdCourseRequirement(), r.getTypeRequirement()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO requirement (id_course, id_course_requirement, type_requirement) VALUES (?, ?, ?)", args);
+    }
+}
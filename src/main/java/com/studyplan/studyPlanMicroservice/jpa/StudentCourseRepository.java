@@ -1,5 +1,7 @@
 package com.studyplan.studyPlanMicroservice.jpa;
 
+import com.studyplan.studyPlanMicroservice.data.StudentCourseData;
+import com.studyplan.studyPlanMicroservice.data.StudentCourseStatusRow;
 import com.studyplan.studyPlanMicroservice.domain.StudentCourse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,11 +9,21 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface StudentCourseRepository extends JpaRepository<StudentCourse, Integer> {
-    List<StudentCourse> findByUser_IdUser(Integer idUser);
+public interface StudentCourseRepository extends JpaRepository<StudentCourse, Integer>, StudentCourseRepositoryCustom {
+    Optional<StudentCourse> findByUser_IdUserAndCourse_IdCourse(Integer idUser, Integer idCourse);
 
-    @Query("SELECT COUNT(sc) FROM StudentCourse sc WHERE sc.user.idUser = :userId AND sc.course.idStudyPlan = :planId AND sc.status.dscName = 'Aprobado'")
+    // Listing read path: one statement, no User/Course hydration
+    @Query("SELECT new com.studyplan.studyPlanMicroservice.data.StudentCourseData(sc.idStudentCourse, st.idStatus, st.dscName, sc.user.idUser, sc.course.idCourse, sc.numTimesTaken) " +
+           "FROM StudentCourse sc JOIN sc.status st WHERE sc.user.idUser = :userId")
+    List<StudentCourseData> findDataByUser(@Param("userId") Integer userId);
+
+    @Query("SELECT new com.studyplan.studyPlanMicroservice.data.StudentCourseStatusRow(sc.idStudentCourse, c.idCourse, c.idStudyPlan, sc.status.idStatus) " +
+           "FROM StudentCourse sc JOIN sc.course c WHERE sc.user.idUser = :userId")
+    List<StudentCourseStatusRow> findStatusRowsByUser(@Param("userId") Integer userId);
+
+    @Query("SELECT COUNT(sc) FROM StudentCourse sc WHERE sc.user.idUser = :userId AND sc.course.idStudyPlan = :planId AND sc.status.idStatus = 4")
     long countApprovedCourses(@Param("userId") Integer userId, @Param("planId") Integer planId);
 }
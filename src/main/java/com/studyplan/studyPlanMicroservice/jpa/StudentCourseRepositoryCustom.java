@@ -0,0 +1,18 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.data.StudentCourseData;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StudentCourseRepositoryCustom {
+
+    // Writes all status changes in a single JDBC batch
+    void batchUpdateStatus(Map<Integer, Integer> statusByStudentCourseId);
+
+    // Inserts the missing (user, course) rows in one JDBC batch; rows that already exist are left untouched
+    void batchInsertMissing(Integer userId, Map<Integer, Integer> statusByCourseId);
+
+    // Creates or updates the given (course, status, numTimesTaken) rows of one user in one JDBC batch
+    void batchUpsert(Integer userId, List<StudentCourseData> rows);
+}
@@ -0,0 +1,44 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.data.StudentCourseData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class StudentCourseRepositoryCustomImpl implements StudentCourseRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchUpdateStatus(Map<Integer, Integer> statusByStudentCourseId) {
+        if (statusByStudentCourseId.isEmpty()) return;
+        List<Object[]> args = new ArrayList<>(statusByStudentCourseId.size());
+        statusByStudentCourseId.forEach((id, status) -> args.add(new Object[]{status, id}));
+        jdbcTemplate.batchUpdate("UPDATE student_courses SET id_status = ? WHERE id_student_course = ?", args);
+    }
+
+    @Override
+    public void batchInsertMissing(Integer userId, Map<Integer, Integer> statusByCourseId) {
+        if (statusByCourseId.isEmpty()) return;
+        List<Object[]> args = new ArrayList<>(statusByCourseId.size());
+        statusByCourseId.forEach((courseId, status) -> args.add(new Object[]{userId, courseId, status}));
+        // The no-op ON DUPLICATE KEY clause makes re-runs safe under uk_student_course_user_course
+        jdbcTemplate.batchUpdate("INSERT INTO student_courses (id_user, id_course, id_status, num_times_taken) VALUES (?, ?, ?, 0) " +
+                "ON DUPLICATE KEY UPDATE id_student_course = id_student_course", args);
+    }
+
+    @Override
+    public void batchUpsert(Integer userId, List<StudentCourseData> rows) {
+        if (rows.isEmpty()) return;
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (StudentCourseData row : rows) {
+            args.add(new Object[]{userId, row.getIdCourse(), row.getIdStatus(), row.getNumTimesTaken()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO student_courses (id_user, id_course, id_status, num_times_taken) VALUES (?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE id_status = VALUES(id_status), num_times_taken = VALUES(num_times_taken)", args);
+    }
+}
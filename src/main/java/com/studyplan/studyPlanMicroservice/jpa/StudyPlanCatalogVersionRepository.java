@@ -0,0 +1,26 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.domain.StudyPlanCatalogVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StudyPlanCatalogVersionRepository extends JpaRepository<StudyPlanCatalogVersion, Integer> {
+
+    @Query("SELECT v.version FROM StudyPlanCatalogVersion v WHERE v.idStudyPlan = :studyPlanId")
+    Optional<Long> findVersion(@Param("studyPlanId") Integer studyPlanId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "study_plan_catalog_version"))
+    @Query(value = "INSERT INTO study_plan_catalog_version (id_study_plan, version, date_updated) VALUES (:studyPlanId, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, date_updated = NOW()", nativeQuery = true)
+    int bump(@Param("studyPlanId") Integer studyPlanId);
+}
@@ -1,10 +1,13 @@
 package com.studyplan.studyPlanMicroservice.jpa;
 
 import com.studyplan.studyPlanMicroservice.domain.StudyPlan;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,10 +21,17 @@ public interface StudyPlanRepository extends JpaRepository<StudyPlan, Integer>,
 
     boolean existsByDscCareerAndIdUniversity(String career, Integer universityId);
 
+    @Query("SELECT sp.dscCareer FROM StudyPlan sp")
+    List<String> findAllCareers();
+
     @Query(value = "SELECT sp.* FROM study_plan sp JOIN user_plan up ON sp.id_study_plan = up.id_study_plan JOIN user u ON up.id_user = u.id_user WHERE u.email = :email", nativeQuery = true)
     List<StudyPlan> findByUserEmail(@Param("email") String email);
 
+    @Query(value = "SELECT sp.* FROM study_plan sp JOIN user_plan up ON sp.id_study_plan = up.id_study_plan WHERE up.id_user = :userId", nativeQuery = true)
+    List<StudyPlan> findByUserId(@Param("userId") Integer userId);
+
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_plan"))
     @Query(value = "INSERT INTO user_plan (id_user, id_study_plan, date_start) VALUES (:userId, :planId, CURRENT_DATE)", nativeQuery = true)
     void linkUserToPlan(@Param("userId") Integer userId, @Param("planId") Integer planId);
 
@@ -3,8 +3,10 @@ package com.studyplan.studyPlanMicroservice.jpa;
 import com.studyplan.studyPlanMicroservice.domain.University;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +15,7 @@ public interface UniversityRepository extends JpaRepository<University, Integer>
 
     Optional<University> findByDscName(String dscName);
     boolean existsByDscName(String dscName);
+
+    @Query("SELECT u.dscName FROM University u")
+    List<String> findAllNames();
 }
\ No newline at end of file
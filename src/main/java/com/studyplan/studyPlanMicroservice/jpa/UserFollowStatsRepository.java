@@ -0,0 +1,47 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.domain.UserFollowStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserFollowStatsRepository extends JpaRepository<UserFollowStats, Integer> {
+
+    String FOLLOWERS = "(SELECT COUNT(*) FROM follower f WHERE f.id_user = u.id_user)";
+    String FOLLOWING = "(SELECT COUNT(*) FROM follower f WHERE f.follower_user_id = u.id_user)";
+
+    // Recomputes stats rows from the follower table
+    String REBUILD = "INSERT INTO user_follow_stats (id_user, followers_count, following_count, date_updated) " +
+            "SELECT u.id_user, " + FOLLOWERS + ", " + FOLLOWING + ", NOW() FROM user u ";
+    String ON_DUPLICATE = " ON DUPLICATE KEY UPDATE followers_count = VALUES(followers_count), " +
+            "following_count = VALUES(following_count), date_updated = VALUES(date_updated)";
+
+    List<UserFollowStats> findByIdUserIn(Collection<Integer> userIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_follow_stats"))
+    @Query(value = "UPDATE user_follow_stats SET followers_count = followers_count + :deltaFollowers, " +
+            "following_count = following_count + :deltaFollowing, date_updated = NOW() WHERE id_user = :userId", nativeQuery = true)
+    int adjust(@Param("userId") Integer userId, @Param("deltaFollowers") int deltaFollowers, @Param("deltaFollowing") int deltaFollowing);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_follow_stats"))
+    @Query(value = REBUILD + "WHERE u.id_user = :userId" + ON_DUPLICATE, nativeQuery = true)
+    int rebuild(@Param("userId") Integer userId);
+
+    // Rewrites only the rows that are missing or no longer match the follower table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_follow_stats"))
+    @Query(value = REBUILD + "WHERE NOT EXISTS (SELECT 1 FROM user_follow_stats s WHERE s.id_user = u.id_user " +
+            "AND s.followers_count = " + FOLLOWERS + " AND s.following_count = " + FOLLOWING + ")" + ON_DUPLICATE, nativeQuery = true)
+    int repair();
+}
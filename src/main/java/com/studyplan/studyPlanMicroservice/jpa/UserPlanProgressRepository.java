@@ -0,0 +1,79 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import com.studyplan.studyPlanMicroservice.domain.UserPlanId;
+import com.studyplan.studyPlanMicroservice.domain.UserPlanProgress;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserPlanProgressRepository extends JpaRepository<UserPlanProgress, UserPlanId> {
+
+    // Recomputes progress rows from user_plan, course and student_courses (id_status 4 = passed)
+    String REBUILD = "INSERT INTO user_plan_progress (id_user, id_study_plan, approved_courses, total_courses, approved_credits, date_updated) " +
+            "SELECT up.id_user, up.id_study_plan, " +
+            "(SELECT COUNT(*) FROM student_courses sc JOIN course c ON c.id_course = sc.id_course " +
+            " WHERE sc.id_user = up.id_user AND c.id_study_plan = up.id_study_plan AND sc.id_status = 4), " +
+            "(SELECT COUNT(*) FROM course c WHERE c.id_study_plan = up.id_study_plan), " +
+            "(SELECT COALESCE(SUM(c.num_credits), 0) FROM student_courses sc JOIN course c ON c.id_course = sc.id_course " +
+            " WHERE sc.id_user = up.id_user AND c.id_study_plan = up.id_study_plan AND sc.id_status = 4), " +
+            "NOW() FROM user_plan up ";
+    String ON_DUPLICATE = " ON DUPLICATE KEY UPDATE approved_courses = VALUES(approved_courses), " +
+            "total_courses = VALUES(total_courses), approved_credits = VALUES(approved_credits), date_updated = VALUES(date_updated)";
+
+    List<UserPlanProgress> findByIdUserIn(Collection<Integer> userIds);
+
+    List<UserPlanProgress> findByIdStudyPlan(Integer idStudyPlan);
+
+    // Native writes declare the table they touch, so Hibernate keeps the cached entity regions
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_plan_progress"))
+    @Query(value = "UPDATE user_plan_progress SET approved_courses = approved_courses + :deltaCourses, " +
+            "approved_credits = approved_credits + :deltaCredits, date_updated = NOW() " +
+            "WHERE id_user = :userId AND id_study_plan = :planId", nativeQuery = true)
+    int adjustApproved(@Param("userId") Integer userId, @Param("planId") Integer planId,
+                       @Param("deltaCourses") int deltaCourses, @Param("deltaCredits") int deltaCredits);
+
+    // Applies the removal of a course to every user of the plan who had passed it
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_plan_progress"))
+    @Query(value = "UPDATE user_plan_progress p JOIN student_courses sc ON sc.id_user = p.id_user " +
+            "SET p.approved_courses = p.approved_courses - 1, p.approved_credits = p.approved_credits - :credits, p.date_updated = NOW() " +
+            "WHERE p.id_study_plan = :planId AND sc.id_course = :courseId AND sc.id_status = 4", nativeQuery = true)
+    int removeApprovedCourse(@Param("planId") Integer planId, @Param("courseId") Integer courseId, @Param("credits") int credits);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_plan_progress"))
+    @Query(value = "UPDATE user_plan_progress SET total_courses = total_courses + :delta, date_updated = NOW() " +
+            "WHERE id_study_plan = :planId", nativeQuery = true)
+    int adjustTotalCourses(@Param("planId") Integer planId, @Param("delta") int delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_plan_progress"))
+    @Query(value = REBUILD + "WHERE up.id_user = :userId AND up.id_study_plan = :planId" + ON_DUPLICATE, nativeQuery = true)
+    int rebuild(@Param("userId") Integer userId, @Param("planId") Integer planId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_plan_progress"))
+    @Query(value = REBUILD + "WHERE up.id_study_plan = :planId" + ON_DUPLICATE, nativeQuery = true)
+    int rebuildPlan(@Param("planId") Integer planId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_plan_progress"))
+    @Query(value = REBUILD + ON_DUPLICATE, nativeQuery = true)
+    int rebuildAll();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_plan_progress"))
+    @Query(value = REBUILD + "WHERE NOT EXISTS (SELECT 1 FROM user_plan_progress p " +
+            "WHERE p.id_user = up.id_user AND p.id_study_plan = up.id_study_plan)" + ON_DUPLICATE, nativeQuery = true)
+    int rebuildMissing();
+}
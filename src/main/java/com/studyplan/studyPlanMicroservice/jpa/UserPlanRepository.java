@@ -2,14 +2,23 @@ package com.studyplan.studyPlanMicroservice.jpa;
 
 import com.studyplan.studyPlanMicroservice.domain.UserPlan;
 import com.studyplan.studyPlanMicroservice.domain.UserPlanId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserPlanRepository extends JpaRepository<UserPlan, UserPlanId> {
     List<UserPlan> findByIdUser(Integer idUser); 
+    List<UserPlan> findByIdUserIn(Collection<Integer> userIds);
     List<UserPlan> findByIdStudyPlan(Integer idStudyPlan);
+    long countByIdStudyPlan(Integer idStudyPlan);
+
+    @Query("SELECT up.idUser FROM UserPlan up WHERE up.idStudyPlan = :planId AND up.idUser > :afterUserId ORDER BY up.idUser")
+    List<Integer> findUserIdsByStudyPlanAfter(@Param("planId") Integer planId, @Param("afterUserId") Integer afterUserId, Pageable pageable);
 }
@@ -1,23 +1,42 @@
 package com.studyplan.studyPlanMicroservice.jpa;
 
 import com.studyplan.studyPlanMicroservice.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer>,
-        JpaSpecificationExecutor<User> {
+        JpaSpecificationExecutor<User>, UserRepositoryCustom {
 
     Optional<User> findByEmail(String email);
 
     Optional<User> findByFirebaseUid(String firebaseUid);
 
+    // Locking read: sees a row committed after this transaction's snapshot was taken
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT u FROM User u WHERE u.email = :email")
+    Optional<User> findByEmailForShare(@Param("email") String email);
+
+    @Query("SELECT u.idUser FROM User u WHERE u.email = :email")
+    Optional<Integer> findIdByEmail(@Param("email") String email);
+
+    @Query("SELECT u.idUser FROM User u WHERE u.firebaseUid = :firebaseUid")
+    Optional<Integer> findIdByFirebaseUid(@Param("firebaseUid") String firebaseUid);
+
     boolean existsByEmail(String email);
 
     boolean existsByUsername(String username);
 
     boolean existsByFirebaseUid(String firebaseUid);
+
+    @Query("SELECT u.username FROM User u WHERE u.username IS NOT NULL")
+    List<String> findAllUsernames();
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+
+    // Sets last_login for all given users in one JDBC batch; a row never moves back to an older timestamp
+    void batchUpdateLastLogin(Map<Integer, LocalDateTime> lastLoginByUserId);
+}
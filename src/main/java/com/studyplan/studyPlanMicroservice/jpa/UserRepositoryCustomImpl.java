@@ -0,0 +1,27 @@
+package com.studyplan.studyPlanMicroservice.jpa;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchUpdateLastLogin(Map<Integer, LocalDateTime> lastLoginByUserId) {
+        if (lastLoginByUserId.isEmpty()) return;
+        List<Object[]> args = new ArrayList<>(lastLoginByUserId.size());
+        lastLoginByUserId.forEach((id, lastLogin) -> {
+            Timestamp timestamp = Timestamp.valueOf(lastLogin);
+            args.add(new Object[]{timestamp, id, timestamp});
+        });
+        jdbcTemplate.batchUpdate("UPDATE user SET last_login = ? WHERE id_user = ? AND (last_login IS NULL OR last_login < ?)", args);
+    }
+}
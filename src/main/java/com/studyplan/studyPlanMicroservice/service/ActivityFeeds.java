@@ -0,0 +1,72 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.FeedEventData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-user inboxes of friends' progress events, filled on write (fan-out) so a read only walks
+ * the requested page. Each inbox is a fixed-size ring that drops its oldest events; inboxes of
+ * users not seen recently are evicted. Contents are in-memory and start empty after a restart.
+ */
+final class ActivityFeeds {
+
+    private final LruCache<Integer, Ring> inboxes;
+    private final int capacity;
+    private long sequence;
+
+    ActivityFeeds(int maxUsers, int capacity) {
+        this.inboxes = new LruCache<>(maxUsers);
+        this.capacity = capacity;
+    }
+
+    // Serialized so every inbox receives events in sequence order, which the "before" cursor relies on
+    synchronized void deliver(int[] recipients, FeedEventData event) {
+        event.setSequence(++sequence);
+        for (int recipient : recipients) {
+            inbox(recipient).add(event);
+        }
+    }
+
+    // Newest first, only events with a sequence below before (when given)
+    List<FeedEventData> read(Integer userId, Long before, int limit) {
+        Ring ring = inboxes.get(userId);
+        return ring != null ? ring.page(before, limit) : List.of();
+    }
+
+    private Ring inbox(Integer userId) {
+        Ring ring = inboxes.get(userId);
+        if (ring == null) {
+            ring = new Ring(capacity);
+            inboxes.put(userId, ring);
+        }
+        return ring;
+    }
+
+    private static final class Ring {
+
+        private final FeedEventData[] events;
+        private int next;
+        private int size;
+
+        Ring(int capacity) {
+            this.events = new FeedEventData[capacity];
+        }
+
+        synchronized void add(FeedEventData event) {
+            events[next] = event;
+            next = (next + 1) % events.length;
+            size = Math.min(size + 1, events.length);
+        }
+
+        synchronized List<FeedEventData> page(Long before, int limit) {
+            List<FeedEventData> page = new ArrayList<>(Math.min(limit, size));
+            for (int i = 1; i <= size && page.size() < limit; i++) {
+                FeedEventData event = events[Math.floorMod(next - i, events.length)];
+                if (before == null || event.getSequence() < before) page.add(event);
+            }
+            return page;
+        }
+    }
+}
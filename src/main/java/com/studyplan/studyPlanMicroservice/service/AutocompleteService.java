@@ -0,0 +1,63 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.jpa.StudyPlanRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UniversityRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Typeahead over university names, study plan careers and usernames. The dictionaries are loaded
+ * at startup from name-only projections and patched with single-value changes after each commit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    private final UniversityRepository universityRepository;
+    private final StudyPlanRepository studyPlanRepository;
+    private final UserRepository userRepository;
+
+    private final PrefixDictionary universities = new PrefixDictionary();
+    private final PrefixDictionary careers = new PrefixDictionary();
+    private final PrefixDictionary usernames = new PrefixDictionary();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        universities.addAll(universityRepository.findAllNames());
+        careers.addAll(studyPlanRepository.findAllCareers());
+        usernames.addAll(userRepository.findAllUsernames());
+        log.info("Autocomplete dictionaries loaded");
+    }
+
+    // Pass null as oldValue for inserts and as newValue for deletes
+    public void universityChanged(String oldValue, String newValue) {
+        TransactionCallbacks.afterCommit(() -> universities.replace(oldValue, newValue));
+    }
+
+    public void careerChanged(String oldValue, String newValue) {
+        TransactionCallbacks.afterCommit(() -> careers.replace(oldValue, newValue));
+    }
+
+    public void usernameChanged(String oldValue, String newValue) {
+        TransactionCallbacks.afterCommit(() -> usernames.replace(oldValue, newValue));
+    }
+
+    public List<String> completeUniversities(String prefix, int limit) {
+        return universities.complete(prefix, limit);
+    }
+
+    public List<String> completeCareers(String prefix, int limit) {
+        return careers.complete(prefix, limit);
+    }
+
+    public List<String> completeUsernames(String prefix, int limit) {
+        return usernames.complete(prefix, limit);
+    }
+}
@@ -0,0 +1,132 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.SearchResultData;
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import com.studyplan.studyPlanMicroservice.domain.StudyPlan;
+import com.studyplan.studyPlanMicroservice.jpa.CourseRepository;
+import com.studyplan.studyPlanMicroservice.jpa.StudyPlanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ranked, accent-insensitive search over study plan names/careers and course codes/names,
+ * served from in-memory inverted indexes that are loaded at startup and updated after commit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSearchService {
+
+    static final String TYPE_STUDY_PLAN = "STUDY_PLAN";
+    static final String TYPE_COURSE = "COURSE";
+
+    private final StudyPlanRepository studyPlanRepository;
+    private final CourseRepository courseRepository;
+
+    private final InvertedIndex studyPlanIndex = new InvertedIndex();
+    private final InvertedIndex courseIndex = new InvertedIndex();
+    private final Map<Integer, SearchResultData> studyPlans = new ConcurrentHashMap<>();
+    private final Map<Integer, SearchResultData> courses = new ConcurrentHashMap<>();
+
+    private record Ranked(SearchResultData result, int score) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        studyPlanRepository.findAll().forEach(this::putStudyPlan);
+        courseRepository.findAll().forEach(this::putCourse);
+        log.info("Search index loaded: {} study plans, {} courses", studyPlans.size(), courses.size());
+    }
+
+    public void indexStudyPlan(StudyPlan studyPlan) {
+        TransactionCallbacks.afterCommit(() -> putStudyPlan(studyPlan));
+    }
+
+    public void removeStudyPlan(Integer id) {
+        TransactionCallbacks.afterCommit(() -> {
+            studyPlanIndex.remove(id);
+            studyPlans.remove(id);
+        });
+    }
+
+    public void indexCourses(Collection<Course> saved) {
+        List<Course> snapshot = List.copyOf(saved);
+        TransactionCallbacks.afterCommit(() -> snapshot.forEach(this::putCourse));
+    }
+
+    public void removeCourse(Integer id) {
+        TransactionCallbacks.afterCommit(() -> {
+            courseIndex.remove(id);
+            courses.remove(id);
+        });
+    }
+
+    // type: null for everything, STUDY_PLAN or COURSE
+    public List<SearchResultData> search(String query, String type, int limit) {
+        List<Ranked> ranked = new ArrayList<>();
+        if (type == null || TYPE_STUDY_PLAN.equalsIgnoreCase(type)) {
+            collect(studyPlanIndex.search(query, limit), studyPlans, ranked);
+        }
+        if (type == null || TYPE_COURSE.equalsIgnoreCase(type)) {
+            collect(courseIndex.search(query, limit), courses, ranked);
+        }
+        return ranked.stream()
+                .sorted(Comparator.comparingInt(Ranked::score).reversed())
+                .limit(limit)
+                .map(r -> SearchResultData.builder()
+                        .type(r.result().getType())
+                        .id(r.result().getId())
+                        .code(r.result().getCode())
+                        .name(r.result().getName())
+                        .detail(r.result().getDetail())
+                        .idStudyPlan(r.result().getIdStudyPlan())
+                        .score(r.score())
+                        .build())
+                .toList();
+    }
+
+    private void collect(List<InvertedIndex.Hit> hits, Map<Integer, SearchResultData> documents, List<Ranked> out) {
+        for (InvertedIndex.Hit hit : hits) {
+            SearchResultData result = documents.get(hit.id());
+            if (result != null) out.add(new Ranked(result, hit.score()));
+        }
+    }
+
+    private void putStudyPlan(StudyPlan plan) {
+        Map<String, Integer> tokens = new HashMap<>();
+        InvertedIndex.addTokens(tokens, plan.getDscName(), 3);
+        InvertedIndex.addTokens(tokens, plan.getDscCareer(), 2);
+        studyPlanIndex.put(plan.getIdStudyPlan(), tokens);
+        studyPlans.put(plan.getIdStudyPlan(), SearchResultData.builder()
+                .type(TYPE_STUDY_PLAN)
+                .id(plan.getIdStudyPlan())
+                .name(plan.getDscName())
+                .detail(plan.getDscCareer())
+                .idStudyPlan(plan.getIdStudyPlan())
+                .build());
+    }
+
+    private void putCourse(Course course) {
+        Map<String, Integer> tokens = new HashMap<>();
+        InvertedIndex.addTokens(tokens, course.getDscName(), 3);
+        InvertedIndex.addTokens(tokens, course.getDscCode(), 4);
+        courseIndex.put(course.getIdCourse(), tokens);
+        courses.put(course.getIdCourse(), SearchResultData.builder()
+                .type(TYPE_COURSE)
+                .id(course.getIdCourse())
+                .code(course.getDscCode())
+                .name(course.getDscName())
+                .idStudyPlan(course.getIdStudyPlan())
+                .build());
+    }
+}
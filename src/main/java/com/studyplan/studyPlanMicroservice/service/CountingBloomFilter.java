@@ -0,0 +1,82 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Counting Bloom filter over strings: one byte counter per slot, so entries can be removed.
+ * A counter that saturates is never decremented again (it only costs false positives).
+ * Writes are serialized; reads are lock-free and may briefly miss an entry still being added,
+ * which is harmless because callers add only after the row is committed.
+ */
+final class CountingBloomFilter {
+
+    private static final int SATURATED = 0xFF;
+
+    private final byte[] counters;
+    private final int hashes;
+
+    CountingBloomFilter(int expectedEntries, int bitsPerEntry) {
+        long slots = Math.max(64L, (long) Math.max(expectedEntries, 1) * bitsPerEntry);
+        this.counters = new byte[(int) Math.min(slots, Integer.MAX_VALUE - 8)];
+        // k = (m/n) ln 2 minimizes the false-positive rate
+        this.hashes = Math.max(1, (int) Math.round(bitsPerEntry * Math.log(2)));
+    }
+
+    synchronized void add(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            int slot = slot(hash, i);
+            int count = counters[slot] & 0xFF;
+            if (count < SATURATED) counters[slot] = (byte) (count + 1);
+        }
+    }
+
+    synchronized void remove(String key) {
+        if (!mightContain(key)) return;
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            int slot = slot(hash, i);
+            int count = counters[slot] & 0xFF;
+            if (count > 0 && count < SATURATED) counters[slot] = (byte) (count - 1);
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            if (counters[slot(hash, i)] == 0) return false;
+        }
+        return true;
+    }
+
+    // Theoretical false-positive probability from the current fill: (non-zero slots / m) ^ k
+    double expectedFalsePositiveRate() {
+        int occupied = 0;
+        for (byte counter : counters) {
+            if (counter != 0) occupied++;
+        }
+        return Math.pow((double) occupied / counters.length, hashes);
+    }
+
+    // Kirsch–Mitzenmacher double hashing: slot_i = h1 + i * h2
+    private int slot(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return Math.floorMod(h1 + i * h2, counters.length);
+    }
+
+    // 64-bit FNV-1a over the UTF-8 bytes, finished with the murmur3 mixer
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb1fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
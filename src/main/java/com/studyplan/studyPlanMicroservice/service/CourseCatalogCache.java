@@ -0,0 +1,41 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.CourseData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Assembled course listings per study plan, tagged with the plan's persisted catalog version.
+ * Every course write bumps that version in its own transaction, so a write on any instance retires
+ * the listing here too, and the version doubles as an ETag that every instance agrees on.
+ */
+@Component
+public class CourseCatalogCache {
+
+    private final LruCache<Integer, Entry> entries;
+
+    public CourseCatalogCache(@Value("${studyplan.course-catalog.max-plans:256}") int maxPlans) {
+        this.entries = new LruCache<>(maxPlans);
+    }
+
+    public String etag(Integer studyPlanId, long version) {
+        return "\"" + studyPlanId + "-" + version + "\"";
+    }
+
+    // The version must be read before loading: a listing is then never older than the version it is cached under
+    public List<CourseData> get(Integer studyPlanId, long version, Supplier<List<CourseData>> loader) {
+        Entry entry = entries.get(studyPlanId);
+        if (entry != null && entry.version() == version) {
+            return entry.courses();
+        }
+        List<CourseData> courses = List.copyOf(loader.get());
+        entries.put(studyPlanId, new Entry(version, courses));
+        return courses;
+    }
+
+    private record Entry(long version, List<CourseData> courses) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import com.studyplan.studyPlanMicroservice.jpa.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Process-local normalized code -> course id map, kept current from CourseService writes.
+// Neither hits nor misses are trusted: another instance may have renamed, deleted or added the course, so
+// callers confirm a hit against the row and fall back to the database on a miss.
+@Component
+@RequiredArgsConstructor
+public class CourseCodeIndex {
+
+    private final CourseRepository courseRepository;
+
+    private final Map<String, Integer> idByCode = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // Rows written before dsc_code_normalized existed get their canonical code first
+        courseRepository.backfillNormalizedCodes();
+        for (Object[] row : courseRepository.findAllCodeIds()) {
+            idByCode.putIfAbsent((String) row[0], (Integer) row[1]);
+        }
+    }
+
+    public Integer find(String normalizedCode) {
+        return normalizedCode != null ? idByCode.get(normalizedCode) : null;
+    }
+
+    // Fills the index from a committed row found by a database fallback
+    public void remember(Course course) {
+        idByCode.put(Course.normalizeCode(course.getDscCode()), course.getIdCourse());
+    }
+
+    // Drops an entry whose course no longer has the code; a newer mapping for the code is kept
+    public void forget(String normalizedCode, Integer id) {
+        idByCode.remove(normalizedCode, id);
+    }
+
+    public void register(Course course) {
+        String code = Course.normalizeCode(course.getDscCode());
+        Integer id = course.getIdCourse();
+        TransactionCallbacks.afterCommit(() -> idByCode.put(code, id));
+    }
+
+    public void unregister(String normalizedCode) {
+        TransactionCallbacks.afterCommit(() -> idByCode.remove(normalizedCode));
+    }
+}
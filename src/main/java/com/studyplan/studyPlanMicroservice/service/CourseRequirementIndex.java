@@ -0,0 +1,48 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.Requirement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Prerequisite/corequisite codes grouped by course id, built once per CourseData listing
+final class CourseRequirementIndex {
+
+    static final CourseRequirementIndex EMPTY = new CourseRequirementIndex(Map.of(), Map.of());
+
+    private final Map<Integer, List<String>> prerequisites;
+    private final Map<Integer, List<String>> corequisites;
+
+    private CourseRequirementIndex(Map<Integer, List<String>> prerequisites, Map<Integer, List<String>> corequisites) {
+        this.prerequisites = prerequisites;
+        this.corequisites = corequisites;
+    }
+
+    static CourseRequirementIndex of(List<Requirement> requirements, Map<Integer, String> idToCode) {
+        Map<Integer, List<String>> prerequisites = new HashMap<>();
+        Map<Integer, List<String>> corequisites = new HashMap<>();
+        for (Requirement r : requirements) {
+            Map<Integer, List<String>> target;
+            if (RequirementGraph.PREREQUISITE.equals(r.getTypeRequirement())) {
+                target = prerequisites;
+            } else if (RequirementGraph.COREQUISITE.equals(r.getTypeRequirement())) {
+                target = corequisites;
+            } else {
+                continue;
+            }
+            String code = idToCode.getOrDefault(r.getIdCourseRequirement(), "REQ-" + r.getIdCourseRequirement());
+            target.computeIfAbsent(r.getIdCourse(), id -> new ArrayList<>()).add(code);
+        }
+        return new CourseRequirementIndex(prerequisites, corequisites);
+    }
+
+    List<String> prerequisitesOf(Integer courseId) {
+        return prerequisites.getOrDefault(courseId, List.of());
+    }
+
+    List<String> corequisitesOf(Integer courseId) {
+        return corequisites.getOrDefault(courseId, List.of());
+    }
+}
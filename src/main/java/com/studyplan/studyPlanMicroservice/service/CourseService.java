@@ -6,13 +6,21 @@ import com.studyplan.studyPlanMicroservice.domain.Requirement;
 import com.studyplan.studyPlanMicroservice.domain.StudyPlan;
 import com.studyplan.studyPlanMicroservice.jpa.CourseRepository;
 import com.studyplan.studyPlanMicroservice.jpa.RequirementRepository;
+import com.studyplan.studyPlanMicroservice.jpa.StudyPlanCatalogVersionRepository;
 import com.studyplan.studyPlanMicroservice.jpa.StudyPlanRepository;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,7 +30,14 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final StudyPlanRepository studyPlanRepository;
     private final RequirementRepository requirementRepository;
-    private final StudentCourseService studentCourseService;
+    private final PlanSyncService planSyncService;
+    private final RequirementGraphCache requirementGraphCache;
+    private final CourseCatalogCache courseCatalogCache;
+    private final StudyPlanCatalogVersionRepository studyPlanCatalogVersionRepository;
+    private final CourseCodeIndex courseCodeIndex;
+    private final ProgressService progressService;
+    private final CatalogSearchService catalogSearchService;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Transactional
     public CourseData createCourse(CourseData data) {
@@ -35,7 +50,7 @@ public class CourseService {
         String normalizedCode = data.getDscCode().trim();
 
         // Check for duplicate course code
-        if (courseRepository.existsByDscCode(normalizedCode)) {
+        if (codeExists(normalizedCode)) {
             throw new RuntimeException("Course code already exists: " + normalizedCode);
         }
 
@@ -51,9 +66,13 @@ public class CourseService {
                 .build();
 
         Course saved = courseRepository.save(course);
+        courseCodeIndex.register(saved);
+        catalogSearchService.indexCourses(List.of(saved));
+        progressService.onCoursesAdded(saved.getIdStudyPlan(), 1);
+        planChanged(saved.getIdStudyPlan());
 
-        // Sync with student_courses
-        studentCourseService.syncPlanCoursesForAllUsers(data.getIdStudyPlan());
+        // Sync with student_courses in the background
+        planSyncService.requestSync(data.getIdStudyPlan());
 
         return toData(saved);
     }
@@ -62,69 +81,102 @@ public class CourseService {
     @Transactional
     public List<CourseData> createCourseBatch(List<CourseData> coursesData) {
         if (coursesData.isEmpty()) return List.of();
-        
-        // 1. Save all courses first
-        List<Course> savedCourses = coursesData.stream().map(data -> {
-             Course course = Course.builder()
-                .idStudyPlan(data.getIdStudyPlan())
-                .dscCode(data.getDscCode())
-                .dscName(data.getDscName())
-                .dscLevel(data.getDscLevel())
-                .dscPeriod(data.getDscPeriod())
-                .typeCourse(data.getTypeCourse())
-                .numCredits(data.getNumCredits())
-                .description(data.getDescription())
-                .build();
-             return courseRepository.save(course);
-        }).collect(Collectors.toList());
-
-        // 2. Map Code -> ID
-        Map<String, Integer> codeToId = savedCourses.stream()
-                .collect(Collectors.toMap(Course::getDscCode, Course::getIdCourse));
 
-        // 3. Save Requirements and Corequisites
+        // 1. Validate everything up front so the import never fails halfway
+        Map<String, CourseData> byCode = new LinkedHashMap<>(); // keyed by normalized code
         for (CourseData data : coursesData) {
-            Integer courseId = codeToId.get(data.getDscCode());
-            if (courseId == null) continue;
-
-            // Save Prerequisites
-            if (data.getPrerequisites() != null) {
-                for (String reqCode : data.getPrerequisites()) {
-                    Integer reqId = codeToId.get(reqCode);
-                    if (reqId != null) {
-                        Requirement req = Requirement.builder()
-                                .idCourse(courseId)
-                                .idCourseRequirement(reqId)
-                                .typeRequirement("PREREQUISITE")
-                                .build();
-                        requirementRepository.save(req);
-                    }
-                }
+            if (byCode.putIfAbsent(Course.normalizeCode(data.getDscCode()), data) != null) {
+                throw new RuntimeException("Duplicate course code in batch: " + data.getDscCode().trim());
             }
-
-            // Save Corequisites
-            if (data.getCorequisites() != null) {
-                for (String coreqCode : data.getCorequisites()) {
-                    Integer coreqId = codeToId.get(coreqCode);
-                    if (coreqId != null) {
-                        Requirement req = Requirement.builder()
-                                .idCourse(courseId)
-                                .idCourseRequirement(coreqId)
-                                .typeRequirement("COREQUISITE")
-                                .build();
-                        requirementRepository.save(req);
-                    }
-                }
+        }
+        // Index hits are confirmed with one primary-key read; stale hits and misses go to the code column
+        Map<String, Integer> indexedIds = new LinkedHashMap<>();
+        for (String code : byCode.keySet()) {
+            Integer id = courseCodeIndex.find(code);
+            if (id != null) indexedIds.put(code, id);
+        }
+        Map<Integer, Course> indexedCourses = courseRepository.findAllById(indexedIds.values()).stream()
+                .collect(Collectors.toMap(Course::getIdCourse, course -> course));
+        List<String> existingCodes = new ArrayList<>();
+        indexedIds.forEach((code, id) -> {
+            if (matchesCode(indexedCourses.get(id), code)) {
+                existingCodes.add(code);
+            } else {
+                courseCodeIndex.forget(code, id);
+            }
+        });
+        List<String> unknownCodes = byCode.keySet().stream()
+                .filter(code -> !existingCodes.contains(code)).collect(Collectors.toList());
+        if (!unknownCodes.isEmpty()) {
+            existingCodes.addAll(courseRepository.findExistingCodes(unknownCodes));
+        }
+        if (!existingCodes.isEmpty()) {
+            throw new RuntimeException("Course code already exists: " + String.join(", ", existingCodes));
+        }
+        Set<Integer> planIds = coursesData.stream().map(CourseData::getIdStudyPlan).collect(Collectors.toSet());
+        for (Integer planId : planIds) {
+            if (!studyPlanRepository.existsById(planId)) {
+                throw new RuntimeException("Study plan not found: " + planId);
             }
         }
 
-        // 4. Sync with student_courses for the plan
-        Integer planId = coursesData.get(0).getIdStudyPlan();
-        studentCourseService.syncPlanCoursesForAllUsers(planId);
-
-        return savedCourses.stream()
-                .map(this::toData)
+        // 2. Insert all courses in one JDBC batch (IDENTITY ids rule out Hibernate batching) and
+        //    resolve the generated ids with one query
+        List<Course> courses = byCode.entrySet().stream()
+                .map(entry -> Course.builder()
+                        .idStudyPlan(entry.getValue().getIdStudyPlan())
+                        .dscCode(entry.getValue().getDscCode().trim())
+                        .dscName(entry.getValue().getDscName())
+                        .dscLevel(entry.getValue().getDscLevel())
+                        .dscPeriod(entry.getValue().getDscPeriod())
+                        .typeCourse(entry.getValue().getTypeCourse())
+                        .numCredits(entry.getValue().getNumCredits())
+                        .description(entry.getValue().getDescription())
+                        .build())
+                .collect(Collectors.toList());
+        courseRepository.batchInsert(courses);
+        List<Course> savedCourses = courseRepository.findByDscCodeNormalizedIn(byCode.keySet()).stream()
+                .sorted(Comparator.comparing(Course::getIdCourse))
                 .collect(Collectors.toList());
+        Map<String, Integer> codeToId = savedCourses.stream()
+                .collect(Collectors.toMap(Course::getDscCodeNormalized, Course::getIdCourse));
+        savedCourses.forEach(courseCodeIndex::register);
+        catalogSearchService.indexCourses(savedCourses);
+
+        // 3. Prerequisites and corequisites in a second batch
+        List<Requirement> requirements = new ArrayList<>();
+        byCode.forEach((code, data) -> {
+            Integer courseId = codeToId.get(code);
+            addRequirements(requirements, courseId, data.getPrerequisites(), "PREREQUISITE", codeToId);
+            addRequirements(requirements, courseId, data.getCorequisites(), "COREQUISITE", codeToId);
+        });
+        requirementRepository.batchInsert(requirements);
+        evictCachedQueries();
+
+        savedCourses.stream()
+                .collect(Collectors.groupingBy(Course::getIdStudyPlan, Collectors.counting()))
+                .forEach((planId, count) -> progressService.onCoursesAdded(planId, count.intValue()));
+        planIds.forEach(this::planChanged);
+
+        // 4. Sync with student_courses for the plan in the background
+        planIds.forEach(planSyncService::requestSync);
+
+        return toDataList(savedCourses, requirements);
+    }
+
+    private void addRequirements(List<Requirement> requirements, Integer courseId, List<String> codes,
+                                 String type, Map<String, Integer> codeToId) {
+        if (courseId == null || codes == null) return;
+        for (String code : codes) {
+            Integer requiredId = codeToId.get(Course.normalizeCode(code));
+            if (requiredId != null) {
+                requirements.add(Requirement.builder()
+                        .idCourse(courseId)
+                        .idCourseRequirement(requiredId)
+                        .typeRequirement(type)
+                        .build());
+            }
+        }
     }
 
     @Transactional(readOnly = true)
@@ -136,34 +188,30 @@ public class CourseService {
 
     @Transactional(readOnly = true)
     public CourseData getCourseByCode(String code) {
-        Course course = courseRepository.findByDscCode(code.trim()).orElse(null);
-        if (course == null) {
-            return null;
-        }
-        return toData(course);
+        Course course = findCourseByCode(Course.normalizeCode(code));
+        return course != null ? toData(course) : null;
     }
 
-    @Transactional(readOnly = true)
+    // Not transactional on purpose: a cache hit costs only the version lookup, not a transaction around the listing
     public List<CourseData> getCoursesByStudyPlan(Integer studyPlanId) {
-        List<Course> courses = courseRepository.findByIdStudyPlan(studyPlanId);
-        // Pre-fetch all requirements for the plan to avoid N+1 queries
-        List<Requirement> allReqs = requirementRepository.findAll(); // Optimization: could filter by course ids
-        Map<Integer, String> idToCode = courses.stream().collect(Collectors.toMap(Course::getIdCourse, Course::getDscCode));
+        return courseCatalogCache.get(studyPlanId, catalogVersion(studyPlanId), () -> {
+            List<Course> courses = courseRepository.findByIdStudyPlan(studyPlanId);
+            // Only this plan's requirement rows, grouped once instead of filtered per course
+            return toDataList(courses, requirementRepository.findByStudyPlan(studyPlanId));
+        });
+    }
 
-        return courses.stream()
-                .map(c -> toData(c, allReqs, idToCode))
-                .collect(Collectors.toList());
+    public String getStudyPlanCatalogETag(Integer studyPlanId) {
+        return courseCatalogCache.etag(studyPlanId, catalogVersion(studyPlanId));
+    }
+
+    private long catalogVersion(Integer studyPlanId) {
+        return studyPlanCatalogVersionRepository.findVersion(studyPlanId).orElse(0L);
     }
 
     @Transactional(readOnly = true)
     public List<CourseData> getAllCourses() {
-        List<Course> courses = courseRepository.findAll();
-        List<Requirement> allReqs = requirementRepository.findAll();
-        Map<Integer, String> idToCode = courses.stream().collect(Collectors.toMap(Course::getIdCourse, Course::getDscCode));
-        
-        return courses.stream()
-                .map(c -> toData(c, allReqs, idToCode))
-                .collect(Collectors.toList());
+        return toDataList(courseRepository.findAll(), requirementRepository.findAll());
     }
 
     @Transactional
@@ -172,11 +220,23 @@ public class CourseService {
                 .orElseThrow(() -> new RuntimeException("Course not found: " + id));
 
         // Check for duplicate course code if it changed
-        if (!course.getDscCode().equals(data.getDscCode()) && courseRepository.existsByDscCode(data.getDscCode())) {
-            throw new RuntimeException("Course code already exists: " + data.getDscCode());
+        String code = data.getDscCode().trim();
+        boolean codeChanged = !Course.normalizeCode(course.getDscCode()).equals(Course.normalizeCode(code));
+        if (codeChanged && codeExists(code)) {
+            throw new RuntimeException("Course code already exists: " + code);
+        }
+        if (codeChanged) {
+            courseCodeIndex.unregister(Course.normalizeCode(course.getDscCode()));
         }
+        Integer previousPlanId = course.getIdStudyPlan();
+        boolean progressChanged = !Objects.equals(previousPlanId, data.getIdStudyPlan())
+                || !Objects.equals(course.getNumCredits(), data.getNumCredits());
 
-        course.setDscCode(data.getDscCode());
+        // Both plans change if the course moves between plans
+        planChanged(course.getIdStudyPlan());
+        planChanged(data.getIdStudyPlan());
+
+        course.setDscCode(code);
         course.setDscName(data.getDscName());
         course.setDscLevel(data.getDscLevel());
         course.setDscPeriod(data.getDscPeriod());
@@ -186,6 +246,15 @@ public class CourseService {
         course.setIdStudyPlan(data.getIdStudyPlan());
 
         Course saved = courseRepository.save(course);
+        courseCodeIndex.register(saved);
+        catalogSearchService.indexCourses(List.of(saved));
+
+        // Moving a course or changing its credits is rare; recompute the affected plans from the source tables
+        if (progressChanged) {
+            courseRepository.flush();
+            progressService.rebuildPlan(previousPlanId);
+            if (!previousPlanId.equals(saved.getIdStudyPlan())) progressService.rebuildPlan(saved.getIdStudyPlan());
+        }
         
         // Note: For simplicity, we are not updating requirements here as they involve complex logic 
         // with other courses. Requirements are usually handled via batch upload or specific endpoints.
@@ -198,31 +267,77 @@ public class CourseService {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found: " + id));
         
+        // Plans whose courses require this one lose those requirements too
+        List<Integer> dependentPlanIds = requirementRepository.findDependentPlanIds(List.of(id));
+
         // Delete related requirements
         requirementRepository.deleteByIdCourse(id);
         requirementRepository.deleteByIdCourseRequirement(id);
         
+        progressService.onCourseRemoved(course);
         courseRepository.delete(course);
+        courseCodeIndex.unregister(Course.normalizeCode(course.getDscCode()));
+        catalogSearchService.removeCourse(id);
+        planChanged(course.getIdStudyPlan());
+        dependentPlanIds.forEach(this::planChanged);
         
-        // Sync with student_courses
-        studentCourseService.syncPlanCoursesForAllUsers(course.getIdStudyPlan());
+        // Sync with student_courses in the background
+        planSyncService.requestSync(course.getIdStudyPlan());
     }
 
-    private CourseData toData(Course course) {
-        return toData(course, List.of(), Map.of());
+    // JDBC batch writes bypass Hibernate, so cached query results over course/requirement are dropped by hand
+    private void evictCachedQueries() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictQueryRegions();
+        TransactionCallbacks.afterCompletion(cache::evictQueryRegions);
     }
 
-    private CourseData toData(Course course, List<Requirement> allReqs, Map<Integer, String> idToCode) {
-        List<String> prereqs = allReqs.stream()
-                .filter(r -> r.getIdCourse().equals(course.getIdCourse()) && "PREREQUISITE".equals(r.getTypeRequirement()))
-                .map(r -> idToCode.getOrDefault(r.getIdCourseRequirement(), "REQ-" + r.getIdCourseRequirement()))
-                .collect(Collectors.toList());
+    private boolean codeExists(String code) {
+        return findCourseByCode(Course.normalizeCode(code)) != null;
+    }
+
+    // Known codes are a primary-key lookup; a miss or a stale entry (the course was renamed or deleted,
+    // possibly on another instance) falls back to the code column, and the stale entry is dropped
+    private Course findCourseByCode(String normalized) {
+        Integer id = courseCodeIndex.find(normalized);
+        if (id != null) {
+            Course course = courseRepository.findById(id).orElse(null);
+            if (matchesCode(course, normalized)) {
+                return course;
+            }
+            courseCodeIndex.forget(normalized, id);
+        }
+        Course course = courseRepository.findByDscCodeNormalized(normalized).orElse(null);
+        if (course != null) {
+            courseCodeIndex.remember(course);
+        }
+        return course;
+    }
+
+    private static boolean matchesCode(Course course, String normalizedCode) {
+        return course != null && normalizedCode.equals(Course.normalizeCode(course.getDscCode()));
+    }
+
+    // Every course write funnels through here so plan-level caches never serve stale courses;
+    // the persisted version commits with the write and is seen by every instance
+    private void planChanged(Integer studyPlanId) {
+        requirementGraphCache.invalidate(studyPlanId);
+        studyPlanCatalogVersionRepository.bump(studyPlanId);
+    }
 
-        List<String> coreqs = allReqs.stream()
-                .filter(r -> r.getIdCourse().equals(course.getIdCourse()) && "COREQUISITE".equals(r.getTypeRequirement()))
-                .map(r -> idToCode.getOrDefault(r.getIdCourseRequirement(), "REQ-" + r.getIdCourseRequirement()))
+    private CourseData toData(Course course) {
+        return toData(course, CourseRequirementIndex.EMPTY);
+    }
+
+    private List<CourseData> toDataList(List<Course> courses, List<Requirement> requirements) {
+        Map<Integer, String> idToCode = courses.stream().collect(Collectors.toMap(Course::getIdCourse, Course::getDscCode));
+        CourseRequirementIndex index = CourseRequirementIndex.of(requirements, idToCode);
+        return courses.stream()
+                .map(c -> toData(c, index))
                 .collect(Collectors.toList());
+    }
 
+    private CourseData toData(Course course, CourseRequirementIndex index) {
         return CourseData.builder()
                 .idCourse(course.getIdCourse())
                 .idStudyPlan(course.getIdStudyPlan())
@@ -233,9 +348,8 @@ public class CourseService {
                 .typeCourse(course.getTypeCourse())
                 .numCredits(course.getNumCredits())
                 .description(course.getDescription())
-                .prerequisites(prereqs)
-                .corequisites(coreqs)
+                .prerequisites(index.prerequisitesOf(course.getIdCourse()))
+                .corequisites(index.corequisitesOf(course.getIdCourse()))
                 .build();
     }
 }
-
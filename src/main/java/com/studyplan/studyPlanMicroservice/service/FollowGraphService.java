@@ -0,0 +1,208 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.FeedEventData;
+import com.studyplan.studyPlanMicroservice.data.PageResponse;
+import com.studyplan.studyPlanMicroservice.data.UserData;
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import com.studyplan.studyPlanMicroservice.domain.Follower;
+import com.studyplan.studyPlanMicroservice.domain.User;
+import com.studyplan.studyPlanMicroservice.jpa.FollowerRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Follow relationships with a per-user adjacency cache (followers and following as sorted int sets)
+ * and a friends' progress feed filled by fan-out on write. The cache is patched after each follow
+ * change commits; loads that overlap a change to the same user are not cached.
+ */
+@Service
+public class FollowGraphService {
+
+    static final String STATUS_ACTIVE = "ACTIVE";
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final FollowerRepository followerRepository;
+    private final UserRepository userRepository;
+    private final FollowStatsService followStatsService;
+    private final UserDataAssembler userDataAssembler;
+    private final ReferenceDataCache referenceDataCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final LruCache<Integer, Adjacency> adjacency;
+    private final ActivityFeeds feeds;
+    // Per-user change counters, striped by user id so memory stays fixed; guarded by this
+    private final long[] generations = new long[GENERATION_STRIPES];
+
+    private record Adjacency(IntSet followers, IntSet following) {}
+
+    public FollowGraphService(FollowerRepository followerRepository,
+                              UserRepository userRepository,
+                              FollowStatsService followStatsService,
+                              UserDataAssembler userDataAssembler,
+                              ReferenceDataCache referenceDataCache,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${studyplan.follow-graph.max-users:50000}") int maxUsers,
+                              @Value("${studyplan.feed.events-per-user:200}") int eventsPerUser) {
+        this.followerRepository = followerRepository;
+        this.userRepository = userRepository;
+        this.followStatsService = followStatsService;
+        this.userDataAssembler = userDataAssembler;
+        this.referenceDataCache = referenceDataCache;
+        this.transactionTemplate = transactionTemplate;
+        this.adjacency = new LruCache<>(maxUsers);
+        this.feeds = new ActivityFeeds(maxUsers, eventsPerUser);
+    }
+
+    // Own transaction so a concurrent duplicate insert can be caught after its rollback
+    public void follow(Integer followerUserId, Integer followedUserId) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                checkPair(followerUserId, followedUserId);
+                if (followerRepository.existsByIdUserAndFollowerUserId(followedUserId, followerUserId)) return;
+
+                followerRepository.save(Follower.builder()
+                        .idUser(followedUserId)
+                        .followerUserId(followerUserId)
+                        .status(STATUS_ACTIVE)
+                        .build());
+                followStatsService.onFollowed(followerUserId, followedUserId);
+                changed(followerUserId, followedUserId, true);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Followed concurrently by another request
+        }
+    }
+
+    @Transactional
+    public void unfollow(Integer followerUserId, Integer followedUserId) {
+        if (followerRepository.deleteFollow(followedUserId, followerUserId) == 0) return;
+        followStatsService.onUnfollowed(followerUserId, followedUserId);
+        changed(followerUserId, followedUserId, false);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<UserData> getFollowers(Integer userId, Integer page, Integer size) {
+        return toPage(adjacency(userId).followers(), page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<UserData> getFollowing(Integer userId, Integer page, Integer size) {
+        return toPage(adjacency(userId).following(), page, size);
+    }
+
+    // Users who follow userId and are followed back
+    @Transactional(readOnly = true)
+    public PageResponse<UserData> getMutual(Integer userId, Integer page, Integer size) {
+        Adjacency own = adjacency(userId);
+        return toPage(own.followers().intersect(own.following()), page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isMutual(Integer userId, Integer otherUserId) {
+        Adjacency own = adjacency(userId);
+        return own.followers().contains(otherUserId) && own.following().contains(otherUserId);
+    }
+
+    public List<FeedEventData> getFeed(Integer userId, Long before, int limit) {
+        return feeds.read(userId, before, limit);
+    }
+
+    // Called in the writer's transaction; followers see the event once it commits
+    public void publishProgress(Integer userId, Course course, Integer statusId) {
+        FeedEventData event = FeedEventData.builder()
+                .idUser(userId)
+                .idStudyPlan(course.getIdStudyPlan())
+                .idCourse(course.getIdCourse())
+                .courseName(course.getDscName())
+                .idStatus(statusId)
+                .statusName(referenceDataCache.statusName(statusId))
+                .dateEvent(LocalDateTime.now())
+                .build();
+        TransactionCallbacks.afterCommit(() -> feeds.deliver(adjacency(userId).followers().toArray(), event));
+    }
+
+    private void checkPair(Integer followerUserId, Integer followedUserId) {
+        if (Objects.equals(followerUserId, followedUserId)) {
+            throw new RuntimeException("Users cannot follow themselves: " + followerUserId);
+        }
+        if (!userRepository.existsById(followerUserId)) {
+            throw new RuntimeException("User not found: " + followerUserId);
+        }
+        if (!userRepository.existsById(followedUserId)) {
+            throw new RuntimeException("User not found: " + followedUserId);
+        }
+    }
+
+    private void changed(Integer followerUserId, Integer followedUserId, boolean followed) {
+        synchronized (this) {
+            bump(followerUserId, followedUserId);
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                bump(followerUserId, followedUserId);
+                Adjacency follower = adjacency.get(followerUserId);
+                if (follower != null) {
+                    adjacency.put(followerUserId, new Adjacency(follower.followers(), followed
+                            ? follower.following().with(followedUserId) : follower.following().without(followedUserId)));
+                }
+                Adjacency target = adjacency.get(followedUserId);
+                if (target != null) {
+                    adjacency.put(followedUserId, new Adjacency(followed
+                            ? target.followers().with(followerUserId) : target.followers().without(followerUserId), target.following()));
+                }
+            }
+        });
+    }
+
+    private void bump(Integer followerUserId, Integer followedUserId) {
+        generations[stripe(followerUserId)]++;
+        generations[stripe(followedUserId)]++;
+    }
+
+    private static int stripe(Integer userId) {
+        return Math.floorMod(userId, GENERATION_STRIPES);
+    }
+
+    private Adjacency adjacency(Integer userId) {
+        Adjacency cached = adjacency.get(userId);
+        if (cached != null) return cached;
+
+        long before;
+        synchronized (this) {
+            before = generations[stripe(userId)];
+        }
+        Adjacency loaded = new Adjacency(
+                IntSet.of(followerRepository.findFollowerIds(userId)),
+                IntSet.of(followerRepository.findFollowingIds(userId)));
+        synchronized (this) {
+            if (generations[stripe(userId)] == before) adjacency.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private PageResponse<UserData> toPage(IntSet ids, Integer page, Integer size) {
+        int[] slice = ids.slice(page * size, page * size + size);
+        List<Integer> pageIds = Arrays.stream(slice).boxed().toList();
+        Map<Integer, User> users = userRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(User::getIdUser, Function.identity()));
+        // Keeps id order; ids of deleted users are skipped
+        List<User> ordered = pageIds.stream().map(users::get).filter(Objects::nonNull).toList();
+        return PageResponse.of(new PageImpl<>(ordered, PageRequest.of(page, size), ids.size()),
+                userDataAssembler.toData(ordered));
+    }
+}
@@ -0,0 +1,60 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.jpa.UserFollowStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the user_follow_stats table. Follow changes are applied as deltas in the caller's
+ * transaction; a scheduled repair rewrites any row that drifted from the follower table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowStatsService {
+
+    private final UserFollowStatsRepository userFollowStatsRepository;
+
+    @Transactional
+    public void onFollowed(Integer followerUserId, Integer followedUserId) {
+        adjust(followerUserId, followedUserId, 1);
+    }
+
+    @Transactional
+    public void onUnfollowed(Integer followerUserId, Integer followedUserId) {
+        adjust(followerUserId, followedUserId, -1);
+    }
+
+    // Rows are always locked in user id order so two opposite follows cannot deadlock
+    private void adjust(Integer followerUserId, Integer followedUserId, int delta) {
+        if (followerUserId < followedUserId) {
+            adjustUser(followerUserId, 0, delta);
+            adjustUser(followedUserId, delta, 0);
+        } else {
+            adjustUser(followedUserId, delta, 0);
+            adjustUser(followerUserId, 0, delta);
+        }
+    }
+
+    private void adjustUser(Integer userId, int deltaFollowers, int deltaFollowing) {
+        if (userFollowStatsRepository.adjust(userId, deltaFollowers, deltaFollowing) == 0) {
+            // No stats row yet for this user
+            userFollowStatsRepository.rebuild(userId);
+        }
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${studyplan.follow-stats.repair-cron:0 30 3 * * *}")
+    public void repair() {
+        int repaired = userFollowStatsRepository.repair();
+        if (repaired > 0) {
+            log.info("Repaired {} user follow stats rows", repaired);
+        }
+    }
+}
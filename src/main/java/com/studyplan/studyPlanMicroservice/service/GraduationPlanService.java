@@ -0,0 +1,125 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.CourseData;
+import com.studyplan.studyPlanMicroservice.data.GraduationPlanData;
+import com.studyplan.studyPlanMicroservice.data.PlannedTermData;
+import com.studyplan.studyPlanMicroservice.data.StudentCourseStatusRow;
+import com.studyplan.studyPlanMicroservice.domain.StudyPlan;
+import com.studyplan.studyPlanMicroservice.jpa.StudentCourseRepository;
+import com.studyplan.studyPlanMicroservice.jpa.StudyPlanRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_IN_PROGRESS;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_PASSED;
+
+@Service
+@RequiredArgsConstructor
+public class GraduationPlanService {
+
+    private static final Pattern FIRST_NUMBER = Pattern.compile("\\d+");
+
+    private final UserRepository userRepository;
+    private final StudyPlanRepository studyPlanRepository;
+    private final StudentCourseRepository studentCourseRepository;
+    private final RequirementGraphCache requirementGraphCache;
+    private final CourseService courseService;
+
+    @Value("${studyplan.planner.default-max-credits:24}")
+    private int defaultMaxCredits;
+
+    @Value("${studyplan.planner.improvement-rounds:64}")
+    private int improvementRounds;
+
+    // Courses in progress are assumed to finish this term, so the plan starts with the next one
+    @Transactional(readOnly = true)
+    public GraduationPlanData planGraduation(Integer userId, Integer studyPlanId, Integer maxCredits, boolean improve) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found: " + userId);
+        }
+        StudyPlan studyPlan = studyPlanRepository.findById(studyPlanId)
+                .orElseThrow(() -> new RuntimeException("Study plan not found: " + studyPlanId));
+        int creditCap = maxCredits != null && maxCredits > 0 ? maxCredits : defaultMaxCredits;
+
+        RequirementGraph graph = requirementGraphCache.getGraph(studyPlanId);
+        BitSet completed = new BitSet(graph.size());
+        for (StudentCourseStatusRow row : studentCourseRepository.findStatusRowsByUser(userId)) {
+            int node = graph.indexOf(row.getIdCourse());
+            if (node >= 0 && row.getIdStatus() != null
+                    && (row.getIdStatus() == STATUS_PASSED || row.getIdStatus() == STATUS_IN_PROGRESS)) {
+                completed.set(node);
+            }
+        }
+
+        Map<Integer, CourseData> courses = courseService.getCoursesByStudyPlan(studyPlanId).stream()
+                .collect(Collectors.toMap(CourseData::getIdCourse, Function.identity()));
+        int[] nominalPeriod = new int[graph.size()];
+        Arrays.fill(nominalPeriod, Integer.MAX_VALUE);
+        for (int node = 0; node < graph.size(); node++) {
+            CourseData course = courses.get(graph.courseId(node));
+            if (course != null) nominalPeriod[node] = parsePeriod(course.getDscPeriod());
+        }
+
+        GraduationPlanner.Schedule schedule = GraduationPlanner.plan(
+                graph, completed, creditCap, nominalPeriod, improve ? improvementRounds : 0);
+
+        List<PlannedTermData> terms = new ArrayList<>(schedule.terms());
+        for (int t = 0; t < schedule.terms(); t++) {
+            terms.add(PlannedTermData.builder().termNumber(t + 1).totalCredits(0).courses(new ArrayList<>()).build());
+        }
+        int remainingCourses = 0;
+        int remainingCredits = 0;
+        for (int node = 0; node < graph.size(); node++) {
+            int t = schedule.termByNode()[node];
+            if (t < 0) continue;
+            PlannedTermData term = terms.get(t);
+            term.getCourses().add(courses.get(graph.courseId(node)));
+            term.setTotalCredits(term.getTotalCredits() + graph.credits(node));
+            remainingCourses++;
+            remainingCredits += graph.credits(node);
+        }
+        List<CourseData> unschedulable = new ArrayList<>();
+        for (int node : schedule.unschedulable()) {
+            unschedulable.add(courses.get(graph.courseId(node)));
+            remainingCourses++;
+            remainingCredits += graph.credits(node);
+        }
+
+        return GraduationPlanData.builder()
+                .idUser(userId)
+                .idStudyPlan(studyPlanId)
+                .typePeriod(studyPlan.getTypePeriod())
+                .maxCreditsPerTerm(creditCap)
+                .totalTerms(schedule.terms())
+                .remainingCourses(remainingCourses)
+                .remainingCredits(remainingCredits)
+                .terms(terms)
+                .unschedulableCourses(unschedulable)
+                .build();
+    }
+
+    // "3", "Semestre 3" or "3er ciclo" all rank as period 3; anything else goes last
+    private static int parsePeriod(String period) {
+        if (period == null) return Integer.MAX_VALUE;
+        Matcher matcher = FIRST_NUMBER.matcher(period);
+        if (!matcher.find()) return Integer.MAX_VALUE;
+        try {
+            return Integer.parseInt(matcher.group());
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+}
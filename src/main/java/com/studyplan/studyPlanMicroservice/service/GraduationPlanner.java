@@ -0,0 +1,166 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Term-by-term scheduling of a plan's remaining courses over its compiled requirement graph.
+ * List scheduling ranks ready courses by critical path (longest prerequisite chain still ahead),
+ * then by how many courses they unlock; the optional improvement phase re-runs the scheduler in
+ * parallel with perturbed rankings and keeps the best result. Everything runs on primitive arrays.
+ */
+final class GraduationPlanner {
+
+    // termByNode is -1 for completed courses and for courses that could not be scheduled
+    record Schedule(int[] termByNode, int terms, int[] unschedulable, long termSum) {}
+
+    private static final Comparator<Schedule> QUALITY = Comparator
+            .comparingInt((Schedule s) -> s.unschedulable().length)
+            .thenComparingInt(Schedule::terms)
+            .thenComparingLong(Schedule::termSum);
+
+    private GraduationPlanner() {
+    }
+
+    /**
+     * @param completed      nodes that count as done (passed, or finishing in the current term)
+     * @param nominalPeriod  per-node tie-break from the course's period in the plan (lower first)
+     */
+    static Schedule plan(RequirementGraph graph, BitSet completed, int maxCredits, int[] nominalPeriod, int improvementRounds) {
+        int n = graph.size();
+        BitSet remaining = new BitSet(n);
+        for (int node = 0; node < n; node++) {
+            if (graph.isPlanCourse(node) && !completed.get(node)) remaining.set(node);
+        }
+
+        int[] height = criticalPath(graph, remaining);
+        int[] unlocks = new int[n];
+        for (int node = remaining.nextSetBit(0); node >= 0; node = remaining.nextSetBit(node + 1)) {
+            BitSet closure = graph.dependentClosure(single(n, node));
+            closure.and(remaining);
+            unlocks[node] = closure.cardinality() - 1;
+        }
+
+        double[] baseKey = new double[n];
+        for (int node = 0; node < n; node++) {
+            baseKey[node] = height[node] * 1000.0 + unlocks[node];
+        }
+        Schedule best = listSchedule(graph, completed, remaining, maxCredits, rank(graph, remaining, baseKey, nominalPeriod));
+        if (improvementRounds <= 0 || remaining.isEmpty()) return best;
+
+        // Perturbations only reorder courses whose critical paths are close, so no round is much worse than the base
+        List<Schedule> candidates = IntStream.range(0, improvementRounds).parallel()
+                .mapToObj(round -> {
+                    SplittableRandom random = new SplittableRandom(round + 1L);
+                    double[] key = new double[n];
+                    for (int node = 0; node < n; node++) {
+                        key[node] = baseKey[node] + random.nextDouble() * 1500.0;
+                    }
+                    return listSchedule(graph, completed, remaining, maxCredits, rank(graph, remaining, key, nominalPeriod));
+                })
+                .toList();
+        for (Schedule candidate : candidates) {
+            if (QUALITY.compare(candidate, best) < 0) best = candidate;
+        }
+        return best;
+    }
+
+    private static Schedule listSchedule(RequirementGraph graph, BitSet completed, BitSet remaining, int maxCredits, int[] order) {
+        int n = graph.size();
+        int[] term = new int[n];
+        Arrays.fill(term, -1);
+        int left = remaining.cardinality();
+        int[] group = new int[n];
+        int t = 0;
+        long termSum = 0;
+
+        while (left > 0) {
+            int credits = 0;
+            boolean placed = false;
+            for (int node : order) {
+                if (term[node] >= 0 || !ready(graph, node, t, completed, term)) continue;
+                int size = coreqGroup(graph, node, t, completed, remaining, term, group);
+                if (size == 0) continue;
+                int groupCredits = 0;
+                for (int i = 0; i < size; i++) groupCredits += graph.credits(group[i]);
+                // A course above the cap on its own still gets a term to itself
+                if (credits > 0 && credits + groupCredits > maxCredits) continue;
+                for (int i = 0; i < size; i++) term[group[i]] = t;
+                credits += groupCredits;
+                left -= size;
+                termSum += (long) size * (t + 1);
+                placed = true;
+            }
+            // Nothing fits this term, so nothing ever will (cycle or a missing external prerequisite)
+            if (!placed) break;
+            t++;
+        }
+
+        int[] unschedulable = remaining.stream().filter(node -> term[node] < 0).toArray();
+        return new Schedule(term, t, unschedulable, termSum);
+    }
+
+    private static boolean ready(RequirementGraph graph, int node, int t, BitSet completed, int[] term) {
+        for (int required : graph.prerequisites(node)) {
+            if (!completed.get(required) && (term[required] < 0 || term[required] >= t)) return false;
+        }
+        return true;
+    }
+
+    // The node plus any corequisites that must be taken with it this term; 0 if they cannot be
+    private static int coreqGroup(RequirementGraph graph, int node, int t, BitSet completed, BitSet remaining, int[] term, int[] group) {
+        int size = 0;
+        group[size++] = node;
+        for (int coreq : graph.corequisites(node)) {
+            if (completed.get(coreq) || (term[coreq] >= 0 && term[coreq] <= t)) continue;
+            if (!remaining.get(coreq) || term[coreq] >= 0 || !ready(graph, coreq, t, completed, term)) return 0;
+            group[size++] = coreq;
+        }
+        // Corequisites of the added courses must already be covered by the group or earlier terms
+        for (int i = 1; i < size; i++) {
+            for (int coreq : graph.corequisites(group[i])) {
+                if (completed.get(coreq) || (term[coreq] >= 0 && term[coreq] <= t)) continue;
+                boolean inGroup = false;
+                for (int j = 0; j < size; j++) inGroup |= group[j] == coreq;
+                if (!inGroup) return 0;
+            }
+        }
+        return size;
+    }
+
+    // Longest chain of remaining courses that still depends on each node, the node included
+    private static int[] criticalPath(RequirementGraph graph, BitSet remaining) {
+        int[] height = new int[graph.size()];
+        int[] topo = graph.topologicalOrder();
+        for (int i = topo.length - 1; i >= 0; i--) {
+            int node = topo[i];
+            if (!remaining.get(node)) continue;
+            int longest = 0;
+            for (int dependent : graph.dependents(node)) {
+                if (remaining.get(dependent)) longest = Math.max(longest, height[dependent]);
+            }
+            height[node] = longest + 1;
+        }
+        return height;
+    }
+
+    private static int[] rank(RequirementGraph graph, BitSet remaining, double[] key, int[] nominalPeriod) {
+        return remaining.stream().boxed()
+                .sorted(Comparator.<Integer>comparingDouble(node -> -key[node])
+                        .thenComparingInt(node -> nominalPeriod[node])
+                        .thenComparingInt(node -> -graph.credits(node))
+                        .thenComparingInt(graph::courseId))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static BitSet single(int n, int node) {
+        BitSet set = new BitSet(n);
+        set.set(node);
+        return set;
+    }
+}
@@ -0,0 +1,74 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// Immutable set of ints kept as a sorted primitive array; updates return a copy
+final class IntSet {
+
+    static final IntSet EMPTY = new IntSet(new int[0]);
+
+    private final int[] values;
+
+    private IntSet(int[] sortedDistinct) {
+        this.values = sortedDistinct;
+    }
+
+    static IntSet of(Collection<Integer> values) {
+        return new IntSet(values.stream().mapToInt(Integer::intValue).sorted().distinct().toArray());
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    IntSet with(int value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) return this;
+        int insertAt = -index - 1;
+        int[] copy = new int[values.length + 1];
+        System.arraycopy(values, 0, copy, 0, insertAt);
+        copy[insertAt] = value;
+        System.arraycopy(values, insertAt, copy, insertAt + 1, values.length - insertAt);
+        return new IntSet(copy);
+    }
+
+    IntSet without(int value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) return this;
+        int[] copy = new int[values.length - 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index + 1, copy, index, values.length - index - 1);
+        return new IntSet(copy);
+    }
+
+    // Linear merge of the two sorted arrays
+    IntSet intersect(IntSet other) {
+        int[] result = new int[Math.min(values.length, other.values.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < values.length && j < other.values.length) {
+            if (values[i] < other.values[j]) i++;
+            else if (values[i] > other.values[j]) j++;
+            else {
+                result[n++] = values[i];
+                i++;
+                j++;
+            }
+        }
+        return new IntSet(Arrays.copyOf(result, n));
+    }
+
+    // Values in ascending order from position from (inclusive) to to (exclusive), clamped to the set
+    int[] slice(int from, int to) {
+        int start = Math.min(Math.max(from, 0), values.length);
+        return Arrays.copyOfRange(values, start, Math.max(start, Math.min(to, values.length)));
+    }
+
+    int[] toArray() {
+        return values.clone();
+    }
+}
@@ -0,0 +1,104 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Token -> document postings with a sorted term dictionary for prefix lookups.
+ * Every query token must match a document token exactly or as a prefix; exact matches score double.
+ */
+final class InvertedIndex {
+
+    record Hit(int id, int score) {}
+
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    private final Map<Integer, Map<String, Integer>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Adds the tokens of text to a document under construction, keeping the highest weight per token
+    static void addTokens(Map<String, Integer> tokens, String text, int weight) {
+        for (String token : TextNormalizer.tokens(text)) {
+            tokens.merge(token, weight, Math::max);
+        }
+    }
+
+    void put(int id, Map<String, Integer> tokens) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            documents.put(id, Map.copyOf(tokens));
+            tokens.forEach((token, weight) -> postings.computeIfAbsent(token, t -> new HashMap<>()).put(id, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<Hit> search(String query, int limit) {
+        List<String> terms = TextNormalizer.tokens(query);
+        if (terms.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Integer> scores = null;
+            for (String term : terms) {
+                Map<Integer, Integer> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<Integer, Integer>> entry : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                    int factor = entry.getKey().length() == term.length() ? 2 : 1;
+                    entry.getValue().forEach((id, weight) -> termScores.merge(id, weight * factor, Math::max));
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // AND semantics: keep only documents matching every term
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) return List.of();
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> hits.add(new Hit(id, score)));
+            hits.sort(Comparator.comparingInt(Hit::score).reversed().thenComparingInt(Hit::id));
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(int id) {
+        Map<String, Integer> previous = documents.remove(id);
+        if (previous == null) return;
+        for (String token : previous.keySet()) {
+            Map<Integer, Integer> docs = postings.get(token);
+            if (docs == null) continue;
+            docs.remove(id);
+            if (docs.isEmpty()) postings.remove(token);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keyset (seek) pagination over a string sort key plus the integer id as tie-breaker.
+ * Cursors are opaque to clients: base64url of "id:sortValue" of the last row of the previous page.
+ * The sort property must be a NOT NULL column: the seek predicate "sort > value" has no answer for null.
+ */
+final class KeysetCursor {
+
+    private KeysetCursor() {
+    }
+
+    static <T> Window<T> scroll(JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                                String sortProperty, String idProperty, String cursor, int size) {
+        Sort sort = Sort.by(Sort.Direction.ASC, sortProperty).and(Sort.by(Sort.Direction.ASC, idProperty));
+        ScrollPosition position = decode(cursor, sortProperty, idProperty);
+        return repository.findBy(specification, query -> query.sortBy(sort).limit(size).scroll(position));
+    }
+
+    static String nextCursor(Window<?> window, String sortProperty, String idProperty) {
+        if (!window.hasNext() || window.isEmpty()) return null;
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        return encode(position.getKeys().get(idProperty), position.getKeys().get(sortProperty), sortProperty);
+    }
+
+    static String encode(Object id, Object sortValue, String sortProperty) {
+        // Encoding null as "" would resume with "sort > ''" and silently skip or repeat rows
+        if (sortValue == null) {
+            throw new IllegalStateException("Keyset sort property is null: " + sortProperty);
+        }
+        String raw = id + ":" + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Map<String, Object> decodeKeys(String cursor, String sortProperty, String idProperty) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(sortProperty, raw.substring(separator + 1));
+            keys.put(idProperty, Integer.valueOf(raw.substring(0, separator)));
+            return keys;
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static ScrollPosition decode(String cursor, String sortProperty, String idProperty) {
+        if (cursor == null || cursor.isBlank()) return ScrollPosition.keyset();
+        return ScrollPosition.forward(decodeKeys(cursor, sortProperty, idProperty));
+    }
+}
@@ -0,0 +1,92 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for last-login timestamps. Logins only record the latest timestamp per user
+ * in memory; a scheduled flush writes the coalesced values in one JDBC batch, and a final flush
+ * runs on shutdown. A failed flush puts its values back for the next attempt.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginBuffer {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Integer, LocalDateTime> pending = new ConcurrentHashMap<>();
+    // System.nanoTime() of the oldest record not yet flushed, 0 when the buffer is empty
+    private final AtomicLong oldestPendingSince = new AtomicLong();
+    private Timer flushTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("studyplan.last_login.buffer.size", pending, Map::size)
+                .description("Users with a last-login timestamp waiting to be flushed")
+                .register(meterRegistry);
+        Gauge.builder("studyplan.last_login.flush.lag", this, LastLoginBuffer::lagSeconds)
+                .description("Age of the oldest unflushed last-login timestamp")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("studyplan.last_login.flush")
+                .description("Duration of last-login batch flushes")
+                .register(meterRegistry);
+    }
+
+    public void record(Integer userId, LocalDateTime timestamp) {
+        pending.merge(userId, timestamp, (current, next) -> next.isAfter(current) ? next : current);
+        oldestPendingSince.compareAndSet(0, System.nanoTime());
+    }
+
+    // Buffered value if newer than the stored one, so reads see a login before it is flushed
+    public LocalDateTime latest(Integer userId, LocalDateTime stored) {
+        LocalDateTime buffered = pending.get(userId);
+        return buffered != null && (stored == null || buffered.isAfter(stored)) ? buffered : stored;
+    }
+
+    @Scheduled(fixedDelayString = "${studyplan.last-login.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+        oldestPendingSince.set(0);
+        Map<Integer, LocalDateTime> batch = new HashMap<>();
+        for (Integer userId : pending.keySet()) {
+            LocalDateTime timestamp = pending.remove(userId);
+            if (timestamp != null) batch.put(userId, timestamp);
+        }
+        if (!pending.isEmpty()) oldestPendingSince.compareAndSet(0, System.nanoTime());
+
+        try {
+            flushTimer.record(() -> userRepository.batchUpdateLastLogin(batch));
+        } catch (RuntimeException e) {
+            log.warn("Last-login flush of {} users failed, retrying on the next run", batch.size(), e);
+            batch.forEach(this::record);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private double lagSeconds() {
+        long since = oldestPendingSince.get();
+        return since == 0 ? 0.0 : (System.nanoTime() - since) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
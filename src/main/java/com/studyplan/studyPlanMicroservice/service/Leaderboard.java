@@ -0,0 +1,131 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Order-statistics ranking of users by a non-negative int score. A Fenwick tree over score values
+ * answers "how many users score higher" in O(log maxScore), which gives ranks and page offsets;
+ * a sorted set of (score desc, user id asc) keys yields the ordered entries. Not thread-safe.
+ */
+final class Leaderboard {
+
+    record Entry(int userId, int score, int rank) {}
+
+    private final Map<Integer, Integer> scores = new HashMap<>();
+    private final TreeSet<Long> order = new TreeSet<>();
+    // Fenwick tree of user counts per score; slot i (1-based) holds score i - 1
+    private long[] tree = new long[65];
+
+    int size() {
+        return scores.size();
+    }
+
+    void set(int userId, int score) {
+        int value = Math.max(score, 0);
+        Integer previous = scores.get(userId);
+        if (previous != null) {
+            if (previous == value) return;
+            order.remove(key(previous, userId));
+            add(previous, -1);
+        }
+        ensureCapacity(value);
+        scores.put(userId, value);
+        order.add(key(value, userId));
+        add(value, 1);
+    }
+
+    void remove(int userId) {
+        Integer previous = scores.remove(userId);
+        if (previous == null) return;
+        order.remove(key(previous, userId));
+        add(previous, -1);
+    }
+
+    Integer score(int userId) {
+        return scores.get(userId);
+    }
+
+    // Competition ranking: users with equal scores share a rank (1, 2, 2, 4)
+    Entry entry(int userId) {
+        Integer score = scores.get(userId);
+        return score != null ? new Entry(userId, score, countAbove(score) + 1) : null;
+    }
+
+    List<Entry> page(int offset, int limit) {
+        List<Entry> page = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        if (offset >= size() || limit <= 0) return page;
+
+        // Jump straight to the score group that contains the offset, then skip within the ties
+        int score = scoreAtOffset(offset);
+        int above = countAbove(score);
+        Iterator<Long> keys = order.tailSet(key(score, 0), true).iterator();
+        for (int skip = offset - above; skip > 0 && keys.hasNext(); skip--) keys.next();
+        int lastScore = -1;
+        int lastRank = 0;
+        while (keys.hasNext() && page.size() < limit) {
+            long key = keys.next();
+            int entryScore = scoreOf(key);
+            if (entryScore != lastScore) {
+                lastScore = entryScore;
+                lastRank = countAbove(entryScore) + 1;
+            }
+            page.add(new Entry(userIdOf(key), entryScore, lastRank));
+        }
+        return page;
+    }
+
+    private int countAbove(int score) {
+        return size() - (int) prefix(score + 1);
+    }
+
+    // Score of the entry at the given 0-based position from the top, found by descending the tree
+    private int scoreAtOffset(int offset) {
+        // Position offset from the top is the (size - offset)-th smallest; find the smallest score reaching that count
+        long target = size() - offset;
+        int position = 0;
+        long accumulated = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && accumulated + tree[next] < target) {
+                position = next;
+                accumulated += tree[next];
+            }
+        }
+        // Slots 1..position hold fewer than target users, so slot position + 1 (score = position) reaches it
+        return position;
+    }
+
+    private void add(int score, int delta) {
+        for (int i = score + 1; i < tree.length; i += i & -i) tree[i] += delta;
+    }
+
+    private long prefix(int index) {
+        long sum = 0;
+        for (int i = index; i > 0; i -= i & -i) sum += tree[i];
+        return sum;
+    }
+
+    // Grows the tree to the next power of two above score and recounts from the ordered keys
+    private void ensureCapacity(int score) {
+        if (score + 1 < tree.length) return;
+        tree = new long[(Integer.highestOneBit(score + 1) << 1) + 1];
+        for (long key : order) add(scoreOf(key), 1);
+    }
+
+    private static long key(int score, int userId) {
+        return ((long) (Integer.MAX_VALUE - score) << 32) | (userId & 0xFFFFFFFFL);
+    }
+
+    private static int scoreOf(long key) {
+        return Integer.MAX_VALUE - (int) (key >>> 32);
+    }
+
+    private static int userIdOf(long key) {
+        return (int) key;
+    }
+}
@@ -0,0 +1,230 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.LeaderboardEntryData;
+import com.studyplan.studyPlanMicroservice.data.PageResponse;
+import com.studyplan.studyPlanMicroservice.domain.User;
+import com.studyplan.studyPlanMicroservice.domain.UserPlanId;
+import com.studyplan.studyPlanMicroservice.domain.UserPlanProgress;
+import com.studyplan.studyPlanMicroservice.jpa.UserPlanProgressRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-plan rankings of students by approved credits or by progress, mirrored from user_plan_progress.
+ * A plan's board is loaded on first access and then kept current from the changes ProgressService
+ * reports, applied after commit; reloads drop the board so the next access loads it again. A load that
+ * overlaps an open write may or may not contain it, so such a board serves that one read and is not kept.
+ * Progress shares the plan's course total, so ranking by progress is ranking by approved courses.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    public static final String BY_CREDITS = "CREDITS";
+    public static final String BY_PROGRESS = "PROGRESS";
+
+    private final UserPlanProgressRepository userPlanProgressRepository;
+    private final UserRepository userRepository;
+
+    // All guarded by this. Writes count from the writer's transaction until it completes
+    private final Map<Integer, Board> boards = new HashMap<>();
+    private final Map<Integer, Writes> writes = new HashMap<>();
+    private final Writes allWrites = new Writes();
+
+    public void approvedChanged(Integer userId, Integer planId, int deltaCourses, int deltaCredits) {
+        write(planId, board -> board.adjust(userId, deltaCourses, deltaCredits));
+    }
+
+    public void totalCoursesChanged(Integer planId, int delta) {
+        write(planId, board -> board.adjustTotal(delta));
+    }
+
+    public void userReloaded(Integer userId, Integer planId) {
+        write(planId, board -> userPlanProgressRepository.findById(new UserPlanId(userId, planId)).ifPresent(board::set));
+    }
+
+    public void planReloaded(Integer planId) {
+        write(planId, board -> {
+            synchronized (this) {
+                boards.remove(planId);
+            }
+        });
+    }
+
+    public void allReloaded() {
+        synchronized (this) {
+            allWrites.open++;
+            allWrites.begun++;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                boards.clear();
+            }
+        });
+        TransactionCallbacks.afterCompletion(() -> {
+            synchronized (this) {
+                allWrites.open--;
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<LeaderboardEntryData> getLeaderboard(Integer planId, String by, Integer page, Integer size) {
+        Board board = board(planId);
+        List<Row> rows = board.page(byCredits(by), page * size, size);
+        List<LeaderboardEntryData> content = toData(rows, board);
+        return PageResponse.of(new PageImpl<>(content, PageRequest.of(page, size), board.size()), content);
+    }
+
+    @Transactional(readOnly = true)
+    public LeaderboardEntryData getUserRank(Integer planId, Integer userId, String by) {
+        Board board = board(planId);
+        Row row = board.entry(byCredits(by), userId);
+        if (row == null) {
+            throw new RuntimeException("User " + userId + " is not ranked in study plan: " + planId);
+        }
+        return toData(List.of(row), board).get(0);
+    }
+
+    private static boolean byCredits(String by) {
+        if (by == null || BY_CREDITS.equalsIgnoreCase(by)) return true;
+        if (BY_PROGRESS.equalsIgnoreCase(by)) return false;
+        throw new RuntimeException("Unknown leaderboard ranking: " + by);
+    }
+
+    private List<LeaderboardEntryData> toData(List<Row> rows, Board board) {
+        Map<Integer, User> users = userRepository.findAllById(rows.stream().map(Row::userId).toList()).stream()
+                .collect(Collectors.toMap(User::getIdUser, Function.identity()));
+        int total = board.totalCourses();
+        return rows.stream().map(row -> {
+            User user = users.get(row.userId());
+            return LeaderboardEntryData.builder()
+                    .rank(row.rank())
+                    .idUser(row.userId())
+                    .username(user != null ? user.getUsername() : null)
+                    .fullName(user != null ? user.getFullName() : null)
+                    .approvedCourses(row.courses())
+                    .approvedCredits(row.credits())
+                    .progress(total > 0 ? (double) row.courses() / total : 0.0)
+                    .build();
+        }).collect(Collectors.toList());
+    }
+
+    // Applies the change to a loaded board after commit; a plan without one reads it from the table when it loads
+    private void write(Integer planId, Consumer<Board> change) {
+        synchronized (this) {
+            Writes planWrites = writes.computeIfAbsent(planId, id -> new Writes());
+            planWrites.open++;
+            planWrites.begun++;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Board board;
+            synchronized (this) {
+                board = boards.get(planId);
+            }
+            if (board != null) change.accept(board);
+        });
+        TransactionCallbacks.afterCompletion(() -> {
+            synchronized (this) {
+                writes.get(planId).open--;
+            }
+        });
+    }
+
+    private Board board(Integer planId) {
+        long before;
+        synchronized (this) {
+            Board cached = boards.get(planId);
+            if (cached != null) return cached;
+            before = quietSince(planId);
+        }
+        Board loaded = load(userPlanProgressRepository.findByIdStudyPlan(planId));
+        synchronized (this) {
+            // Plans without students are not kept, so unknown plan ids leave nothing behind
+            if (before >= 0 && quietSince(planId) == before && loaded.size() > 0) {
+                boards.put(planId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // Sum of the write counters that could affect the plan, or -1 while one of those writes is open
+    private long quietSince(Integer planId) {
+        Writes planWrites = writes.get(planId);
+        if (allWrites.open > 0 || (planWrites != null && planWrites.open > 0)) return -1;
+        return allWrites.begun + (planWrites != null ? planWrites.begun : 0);
+    }
+
+    private static Board load(List<UserPlanProgress> rows) {
+        Board board = new Board();
+        rows.forEach(board::set);
+        return board;
+    }
+
+    private record Row(int userId, int courses, int credits, int rank) {}
+
+    private static final class Writes {
+        int open;
+        long begun;
+    }
+
+    // Both rankings of one plan, updated together under the board's lock
+    private static final class Board {
+
+        private final Leaderboard credits = new Leaderboard();
+        private final Leaderboard courses = new Leaderboard();
+        private int totalCourses;
+
+        synchronized void set(UserPlanProgress row) {
+            credits.set(row.getIdUser(), row.getApprovedCredits());
+            courses.set(row.getIdUser(), row.getApprovedCourses());
+            totalCourses = Math.max(totalCourses, row.getTotalCourses());
+        }
+
+        synchronized void adjust(int userId, int deltaCourses, int deltaCredits) {
+            Integer currentCredits = credits.score(userId);
+            Integer currentCourses = courses.score(userId);
+            credits.set(userId, (currentCredits != null ? currentCredits : 0) + deltaCredits);
+            courses.set(userId, (currentCourses != null ? currentCourses : 0) + deltaCourses);
+        }
+
+        synchronized void adjustTotal(int delta) {
+            totalCourses = Math.max(totalCourses + delta, 0);
+        }
+
+        synchronized int size() {
+            return credits.size();
+        }
+
+        synchronized int totalCourses() {
+            return totalCourses;
+        }
+
+        synchronized List<Row> page(boolean byCredits, int offset, int limit) {
+            return (byCredits ? credits : courses).page(offset, limit).stream().map(e -> row(byCredits, e)).toList();
+        }
+
+        synchronized Row entry(boolean byCredits, int userId) {
+            Leaderboard.Entry entry = (byCredits ? credits : courses).entry(userId);
+            return entry != null ? row(byCredits, entry) : null;
+        }
+
+        private Row row(boolean byCredits, Leaderboard.Entry entry) {
+            int userId = entry.userId();
+            return byCredits
+                    ? new Row(userId, courses.score(userId), entry.score(), entry.rank())
+                    : new Row(userId, entry.score(), credits.score(userId), entry.rank());
+        }
+    }
+}
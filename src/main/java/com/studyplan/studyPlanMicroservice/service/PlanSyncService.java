@@ -0,0 +1,274 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.PlanSyncJobData;
+import com.studyplan.studyPlanMicroservice.domain.PlanSyncJob;
+import com.studyplan.studyPlanMicroservice.jpa.PlanSyncJobRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UserPlanRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Propagates plan course changes to every enrolled student in the background.
+ * Jobs are persisted, processed in user-id ordered chunks and resumed from their cursor after a restart.
+ * Each user is synced in its own transaction; a user that fails is recorded on the job and skipped.
+ * At most one job per plan runs at a time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanSyncService {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_COMPLETED = "COMPLETED";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final int FAILED_IDS_LENGTH = 1000;
+
+    private final PlanSyncJobRepository planSyncJobRepository;
+    private final UserPlanRepository userPlanRepository;
+    private final StudentCourseService studentCourseService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${studyplan.plan-sync.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${studyplan.plan-sync.pool-size:2}")
+    private int poolSize;
+
+    private final Set<Integer> activePlans = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+    private volatile boolean stopping;
+
+    @PostConstruct
+    void startExecutor() {
+        executor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("plan-sync-"));
+    }
+
+    @PreDestroy
+    void stopExecutor() throws InterruptedException {
+        // Workers stop after their current chunk; unfinished jobs keep their cursor and resume on the next start
+        stopping = true;
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Guarantees a full pass over the plan's users that starts after this change commits: a PENDING job
+     * absorbs the request, otherwise a new PENDING job is queued. A RUNNING job never absorbs it, because
+     * users before its cursor were synced against the old courses; the queued job runs right after it.
+     * Joining happens before the commit, so it is checked again afterwards: if the joined job has started
+     * meanwhile, a job that is pending after the commit takes over.
+     */
+    @Transactional
+    public PlanSyncJobData requestSync(Integer planId) {
+        // Coalesce: a job that has not started yet will pick up this change as well
+        Optional<PlanSyncJob> pending = findPendingJob(planId);
+        PlanSyncJob job = pending.orElseGet(() -> createJob(planId));
+        Integer jobId = job.getIdPlanSyncJob();
+
+        TransactionCallbacks.afterCommit(() -> {
+            if (pending.isPresent()) {
+                // The worker may have started the joined job before this change committed and passed users
+                // without it; a job that is still (or again) pending after the commit has to carry it instead
+                newTransaction().executeWithoutResult(tx -> {
+                    boolean stillPending = planSyncJobRepository.findById(jobId)
+                            .map(current -> STATUS_PENDING.equals(current.getStatus()))
+                            .orElse(false);
+                    if (!stillPending && findPendingJob(planId).isEmpty()) createJob(planId);
+                });
+            }
+            dispatch(planId);
+        });
+        return toData(job);
+    }
+
+    private Optional<PlanSyncJob> findPendingJob(Integer planId) {
+        return planSyncJobRepository.findFirstByIdStudyPlanAndStatusOrderByIdPlanSyncJobAsc(planId, STATUS_PENDING);
+    }
+
+    private PlanSyncJob createJob(Integer planId) {
+        return planSyncJobRepository.save(PlanSyncJob.builder()
+                .idStudyPlan(planId)
+                .status(STATUS_PENDING)
+                .processedUsers(0)
+                .failedUsers(0)
+                .dateCreated(LocalDateTime.now())
+                .build());
+    }
+
+    // After-commit code still sees the finished transaction's resources, so its writes need a new one
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    @Transactional(readOnly = true)
+    public PlanSyncJobData getJob(Integer id) {
+        PlanSyncJob job = planSyncJobRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Plan sync job not found: " + id));
+        return toData(job);
+    }
+
+    @Transactional(readOnly = true)
+    public PlanSyncJobData getLatestJob(Integer planId) {
+        PlanSyncJob job = planSyncJobRepository.findFirstByIdStudyPlanOrderByIdPlanSyncJobDesc(planId)
+                .orElseThrow(() -> new RuntimeException("No sync job for study plan: " + planId));
+        return toData(job);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        planSyncJobRepository.findByStatusIn(List.of(STATUS_PENDING, STATUS_RUNNING)).stream()
+                .map(PlanSyncJob::getIdStudyPlan)
+                .distinct()
+                .forEach(this::dispatch);
+    }
+
+    private void dispatch(Integer planId) {
+        if (!activePlans.add(planId)) {
+            // The worker already draining this plan picks the new job up
+            return;
+        }
+        try {
+            executor.execute(() -> drain(planId));
+        } catch (RejectedExecutionException e) {
+            activePlans.remove(planId);
+        }
+    }
+
+    private void drain(Integer planId) {
+        try {
+            Integer jobId;
+            while (!stopping && (jobId = nextJobId(planId)) != null) {
+                run(jobId);
+            }
+        } finally {
+            activePlans.remove(planId);
+        }
+        // A request may have committed between the last check and releasing the plan
+        if (!stopping && nextJobId(planId) != null) {
+            dispatch(planId);
+        }
+    }
+
+    private Integer nextJobId(Integer planId) {
+        return planSyncJobRepository.findFirstByIdStudyPlanAndStatusInOrderByIdPlanSyncJobAsc(planId, List.of(STATUS_RUNNING, STATUS_PENDING))
+                .map(PlanSyncJob::getIdPlanSyncJob)
+                .orElse(null);
+    }
+
+    private void run(Integer jobId) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            PlanSyncJob job = planSyncJobRepository.findById(jobId).orElseThrow();
+            job.setStatus(STATUS_RUNNING);
+            if (job.getDateStarted() == null) job.setDateStarted(LocalDateTime.now());
+            job.setTotalUsers((int) userPlanRepository.countByIdStudyPlan(job.getIdStudyPlan()));
+        });
+
+        try {
+            while (processChunk(jobId)) {
+                if (stopping) return;
+            }
+            finish(jobId, STATUS_COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.error("Plan sync job {} failed", jobId, e);
+            finish(jobId, STATUS_FAILED, e.getMessage());
+        }
+    }
+
+    // Users are synced one transaction each and the cursor moves only after the whole chunk, so a restart
+    // never skips users; re-syncing one is harmless since initializeStudentPlan only adds missing rows
+    private boolean processChunk(Integer jobId) {
+        PlanSyncJob job = planSyncJobRepository.findById(jobId).orElseThrow();
+        int afterUserId = job.getLastUserId() != null ? job.getLastUserId() : 0;
+        List<Integer> userIds = userPlanRepository.findUserIdsByStudyPlanAfter(
+                job.getIdStudyPlan(), afterUserId, PageRequest.of(0, chunkSize));
+        if (userIds.isEmpty()) return false;
+
+        List<Integer> failed = new ArrayList<>();
+        RuntimeException lastError = null;
+        for (Integer userId : userIds) {
+            try {
+                studentCourseService.initializeStudentPlan(userId, job.getIdStudyPlan());
+            } catch (RuntimeException e) {
+                log.warn("Plan sync job {}: user {} failed", jobId, userId, e);
+                failed.add(userId);
+                lastError = e;
+            }
+        }
+        // A chunk in which every user fails points at the database rather than at the users
+        if (failed.size() == userIds.size() && lastError != null) {
+            throw lastError;
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            PlanSyncJob current = planSyncJobRepository.findById(jobId).orElseThrow();
+            current.setLastUserId(userIds.get(userIds.size() - 1));
+            current.setProcessedUsers(current.getProcessedUsers() + userIds.size() - failed.size());
+            current.setFailedUsers(current.getFailedUsers() + failed.size());
+            current.setFailedUserIds(appendIds(current.getFailedUserIds(), failed));
+        });
+        return userIds.size() == chunkSize;
+    }
+
+    private static String appendIds(String ids, List<Integer> more) {
+        StringBuilder builder = new StringBuilder(ids != null ? ids : "");
+        for (Integer id : more) {
+            String next = (builder.length() > 0 ? "," : "") + id;
+            if (builder.length() + next.length() > FAILED_IDS_LENGTH) break;
+            builder.append(next);
+        }
+        return builder.length() > 0 ? builder.toString() : null;
+    }
+
+    private void finish(Integer jobId, String status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            PlanSyncJob job = planSyncJobRepository.findById(jobId).orElseThrow();
+            job.setStatus(status);
+            job.setErrorMessage(errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage);
+            job.setDateFinished(LocalDateTime.now());
+        });
+    }
+
+    private PlanSyncJobData toData(PlanSyncJob job) {
+        return PlanSyncJobData.builder()
+                .idPlanSyncJob(job.getIdPlanSyncJob())
+                .idStudyPlan(job.getIdStudyPlan())
+                .status(job.getStatus())
+                .processedUsers(job.getProcessedUsers())
+                .totalUsers(job.getTotalUsers())
+                .failedUsers(job.getFailedUsers())
+                .failedUserIds(job.getFailedUserIds() == null ? List.of()
+                        : Arrays.stream(job.getFailedUserIds().split(",")).map(Integer::valueOf).toList())
+                .errorMessage(job.getErrorMessage())
+                .dateCreated(job.getDateCreated())
+                .dateStarted(job.getDateStarted())
+                .dateFinished(job.getDateFinished())
+                .build();
+    }
+}
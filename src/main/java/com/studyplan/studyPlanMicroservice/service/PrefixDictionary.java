@@ -0,0 +1,119 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sorted-array prefix dictionary for autocomplete. Every value is indexed under the folded text
+ * starting at each of its words, so "sistemas" finds "Ingeniería en Sistemas".
+ * Readers binary-search an immutable snapshot; writers merge their changes into a new copy in linear time.
+ * Values are reference-counted, so a name shared by several rows stays until the last one goes.
+ */
+final class PrefixDictionary {
+
+    private record Entry(String key, String value) {}
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key).thenComparing(Entry::value);
+
+    private volatile Entry[] entries = new Entry[0];
+    private final Map<String, Integer> references = new HashMap<>();
+
+    synchronized void addAll(Iterable<String> values) {
+        List<Entry> added = new ArrayList<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank() && references.merge(value, 1, Integer::sum) == 1) {
+                for (String key : keys(value)) added.add(new Entry(key, value));
+            }
+        }
+        if (added.isEmpty()) return;
+        added.sort(ORDER);
+
+        Entry[] current = entries;
+        Entry[] merged = new Entry[current.length + added.size()];
+        int i = 0, j = 0, k = 0;
+        while (i < current.length || j < added.size()) {
+            if (j == added.size() || (i < current.length && ORDER.compare(current[i], added.get(j)) <= 0)) {
+                merged[k++] = current[i++];
+            } else {
+                merged[k++] = added.get(j++);
+            }
+        }
+        entries = merged;
+    }
+
+    void add(String value) {
+        addAll(List.of(value));
+    }
+
+    synchronized void remove(String value) {
+        Integer count = value != null ? references.get(value) : null;
+        if (count == null) return;
+        if (count > 1) {
+            references.put(value, count - 1);
+            return;
+        }
+        references.remove(value);
+        Entry[] current = entries;
+        List<Entry> kept = new ArrayList<>(current.length);
+        for (Entry entry : current) {
+            if (!entry.value().equals(value)) kept.add(entry);
+        }
+        entries = kept.toArray(new Entry[0]);
+    }
+
+    void replace(String oldValue, String newValue) {
+        if (Objects.equals(oldValue, newValue)) return;
+        remove(oldValue);
+        if (newValue != null) add(newValue);
+    }
+
+    // Every query token must prefix consecutive words of the value: "univ nac" matches "Universidad Nacional"
+    List<String> complete(String prefix, int limit) {
+        List<String> query = TextNormalizer.tokens(prefix);
+        if (query.isEmpty() || limit <= 0) return List.of();
+        String first = query.get(0);
+        Entry[] current = entries;
+        Set<String> matches = new LinkedHashSet<>();
+        for (int i = lowerBound(current, first); i < current.length && matches.size() < limit; i++) {
+            String key = current[i].key();
+            if (!key.startsWith(first)) break;
+            if (query.size() == 1 || wordsMatch(key, query)) matches.add(current[i].value());
+        }
+        return List.copyOf(matches);
+    }
+
+    private static boolean wordsMatch(String key, List<String> query) {
+        String[] words = key.split(" ", query.size() + 1);
+        if (words.length < query.size()) return false;
+        for (int i = 1; i < query.size(); i++) {
+            if (!words[i].startsWith(query.get(i))) return false;
+        }
+        return true;
+    }
+
+    private static int lowerBound(Entry[] entries, String key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].key().compareTo(key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static List<String> keys(String value) {
+        List<String> tokens = TextNormalizer.tokens(value);
+        List<String> keys = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            keys.add(String.join(" ", tokens.subList(i, tokens.size())));
+        }
+        return keys;
+    }
+}
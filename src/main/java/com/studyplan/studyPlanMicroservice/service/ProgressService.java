@@ -0,0 +1,96 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import com.studyplan.studyPlanMicroservice.jpa.UserPlanProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_PASSED;
+
+/**
+ * Maintains the user_plan_progress table. Status and course changes are applied as deltas in the
+ * caller's transaction; the rebuild methods recompute rows from the source tables.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProgressService {
+
+    private final UserPlanProgressRepository userPlanProgressRepository;
+    private final LeaderboardService leaderboardService;
+
+    @Transactional
+    public void onStatusChanged(Integer userId, Course course, Integer previousStatus, Integer newStatus) {
+        boolean wasPassed = Objects.equals(previousStatus, STATUS_PASSED);
+        boolean isPassed = Objects.equals(newStatus, STATUS_PASSED);
+        if (wasPassed == isPassed) return;
+
+        int sign = isPassed ? 1 : -1;
+        int credits = course.getNumCredits() != null ? course.getNumCredits() : 0;
+        onApprovedChanged(userId, course.getIdStudyPlan(), sign, sign * credits);
+    }
+
+    @Transactional
+    public void onApprovedChanged(Integer userId, Integer planId, int deltaCourses, int deltaCredits) {
+        if (deltaCourses == 0 && deltaCredits == 0) return;
+        if (userPlanProgressRepository.adjustApproved(userId, planId, deltaCourses, deltaCredits) == 0) {
+            // No progress row yet for this pair
+            userPlanProgressRepository.rebuild(userId, planId);
+            leaderboardService.userReloaded(userId, planId);
+        } else {
+            leaderboardService.approvedChanged(userId, planId, deltaCourses, deltaCredits);
+        }
+    }
+
+    @Transactional
+    public void onCoursesAdded(Integer planId, int count) {
+        userPlanProgressRepository.adjustTotalCourses(planId, count);
+        leaderboardService.totalCoursesChanged(planId, count);
+    }
+
+    // Must run before the course row is deleted
+    @Transactional
+    public void onCourseRemoved(Course course) {
+        int credits = course.getNumCredits() != null ? course.getNumCredits() : 0;
+        userPlanProgressRepository.removeApprovedCourse(course.getIdStudyPlan(), course.getIdCourse(), credits);
+        userPlanProgressRepository.adjustTotalCourses(course.getIdStudyPlan(), -1);
+        leaderboardService.planReloaded(course.getIdStudyPlan());
+    }
+
+    @Transactional
+    public void rebuild(Integer userId, Integer planId) {
+        userPlanProgressRepository.rebuild(userId, planId);
+        leaderboardService.userReloaded(userId, planId);
+    }
+
+    @Transactional
+    public int rebuildPlan(Integer planId) {
+        int rows = userPlanProgressRepository.rebuildPlan(planId);
+        leaderboardService.planReloaded(planId);
+        return rows;
+    }
+
+    @Transactional
+    public int rebuildAll() {
+        int rows = userPlanProgressRepository.rebuildAll();
+        leaderboardService.allReloaded();
+        return rows;
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissingRows() {
+        int created = userPlanProgressRepository.rebuildMissing();
+        if (created > 0) {
+            log.info("Created {} missing user plan progress rows", created);
+        }
+        // Leaderboards cached before the missing rows existed are dropped and load again on first access
+        leaderboardService.allReloaded();
+    }
+}
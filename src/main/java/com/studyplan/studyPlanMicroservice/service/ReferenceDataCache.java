@@ -0,0 +1,84 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.Status;
+import com.studyplan.studyPlanMicroservice.jpa.StatusRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UniversityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory snapshots of the near-static reference tables (status, university).
+ * Snapshots are replaced wholesale on refresh, so readers never see a partially loaded table.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final StatusRepository statusRepository;
+    private final UniversityRepository universityRepository;
+
+    private volatile Map<Integer, StatusEntry> statuses;
+    private volatile Universities universities;
+
+    public record StatusEntry(Integer id, String name) {}
+
+    public record UniversityEntry(Integer id, String name, String country, Boolean status) {}
+
+    private record Universities(Map<Integer, UniversityEntry> byId, List<UniversityEntry> byName) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refreshStatuses();
+        refreshUniversities();
+    }
+
+    // Refreshes are serialized so a slower, older read can never overwrite a newer snapshot
+    public synchronized void refreshStatuses() {
+        statuses = statusRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Status::getIdStatus, s -> new StatusEntry(s.getIdStatus(), s.getDscName())));
+    }
+
+    public synchronized void refreshUniversities() {
+        List<UniversityEntry> byName = universityRepository.findAll(Sort.by(Sort.Direction.ASC, "dscName")).stream()
+                .map(u -> new UniversityEntry(u.getIdUniversity(), u.getDscName(), u.getDscCountry(), u.getStatus()))
+                .collect(Collectors.toUnmodifiableList());
+        universities = new Universities(
+                byName.stream().collect(Collectors.toUnmodifiableMap(UniversityEntry::id, u -> u)), byName);
+    }
+
+    public boolean statusExists(Integer id) {
+        return id != null && statuses().containsKey(id);
+    }
+
+    public String statusName(Integer id) {
+        StatusEntry entry = id != null ? statuses().get(id) : null;
+        return entry != null ? entry.name() : null;
+    }
+
+    public Optional<UniversityEntry> university(Integer id) {
+        return id != null ? Optional.ofNullable(universities().byId().get(id)) : Optional.empty();
+    }
+
+    public List<UniversityEntry> universitiesByName() {
+        return universities().byName();
+    }
+
+    // Lazily loads when called before the application is ready
+    private Map<Integer, StatusEntry> statuses() {
+        if (statuses == null) refreshStatuses();
+        return statuses;
+    }
+
+    private Universities universities() {
+        if (universities == null) refreshUniversities();
+        return universities;
+    }
+}
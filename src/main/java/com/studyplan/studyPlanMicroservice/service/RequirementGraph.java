@@ -0,0 +1,219 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import com.studyplan.studyPlanMicroservice.domain.Requirement;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled, immutable view of the requirement rows of one study plan.
+ * Courses are addressed by node index; the adjacency arrays are shared and must not be modified.
+ */
+public final class RequirementGraph {
+
+    static final String PREREQUISITE = "PREREQUISITE";
+    static final String COREQUISITE = "COREQUISITE";
+
+    private static final int[] NONE = new int[0];
+
+    private final Integer studyPlanId;
+    private final int planSize;
+    private final int[] courseIds;
+    private final int[] credits;
+    private final Map<Integer, Integer> indexByCourseId;
+    private final int[][] prerequisites;
+    private final int[][] corequisites;
+    private final int[][] dependents;
+    private final int[] topologicalOrder;
+
+    private RequirementGraph(Integer studyPlanId, int planSize, int[] courseIds, int[] credits,
+                             Map<Integer, Integer> indexByCourseId, int[][] prerequisites,
+                             int[][] corequisites, int[][] dependents) {
+        this.studyPlanId = studyPlanId;
+        this.planSize = planSize;
+        this.courseIds = courseIds;
+        this.credits = credits;
+        this.indexByCourseId = indexByCourseId;
+        this.prerequisites = prerequisites;
+        this.corequisites = corequisites;
+        this.dependents = dependents;
+        this.topologicalOrder = computeTopologicalOrder();
+    }
+
+    public static RequirementGraph build(Integer studyPlanId, List<Course> courses, List<Requirement> requirements) {
+        Map<Integer, Integer> index = new HashMap<>();
+        List<Integer> ids = new ArrayList<>();
+        List<Integer> creditList = new ArrayList<>();
+        for (Course course : courses) {
+            if (index.putIfAbsent(course.getIdCourse(), ids.size()) == null) {
+                ids.add(course.getIdCourse());
+                creditList.add(course.getNumCredits() != null ? course.getNumCredits() : 0);
+            }
+        }
+        int planSize = ids.size();
+
+        // Requirements may point at courses of another plan; they become extra nodes so a passed
+        // external course can still satisfy them
+        for (Requirement req : requirements) {
+            if (!index.containsKey(req.getIdCourse()) || req.getIdCourseRequirement() == null) continue;
+            if (index.putIfAbsent(req.getIdCourseRequirement(), ids.size()) == null) {
+                ids.add(req.getIdCourseRequirement());
+                creditList.add(0);
+            }
+        }
+
+        int n = ids.size();
+        int[] prereqCount = new int[n];
+        int[] coreqCount = new int[n];
+        int[] dependentCount = new int[n];
+        for (Requirement req : requirements) {
+            int[] edge = edge(index, req);
+            if (edge == null) continue;
+            if (PREREQUISITE.equals(req.getTypeRequirement())) {
+                prereqCount[edge[0]]++;
+                dependentCount[edge[1]]++;
+            } else if (COREQUISITE.equals(req.getTypeRequirement())) {
+                coreqCount[edge[0]]++;
+            }
+        }
+
+        int[][] prerequisites = allocate(prereqCount);
+        int[][] corequisites = allocate(coreqCount);
+        int[][] dependents = allocate(dependentCount);
+        int[] prereqFill = new int[n];
+        int[] coreqFill = new int[n];
+        int[] dependentFill = new int[n];
+        for (Requirement req : requirements) {
+            int[] edge = edge(index, req);
+            if (edge == null) continue;
+            int course = edge[0];
+            int required = edge[1];
+            if (PREREQUISITE.equals(req.getTypeRequirement())) {
+                prerequisites[course][prereqFill[course]++] = required;
+                dependents[required][dependentFill[required]++] = course;
+            } else if (COREQUISITE.equals(req.getTypeRequirement())) {
+                corequisites[course][coreqFill[course]++] = required;
+            }
+        }
+
+        return new RequirementGraph(studyPlanId, planSize,
+                ids.stream().mapToInt(Integer::intValue).toArray(),
+                creditList.stream().mapToInt(Integer::intValue).toArray(),
+                Map.copyOf(index), prerequisites, corequisites, dependents);
+    }
+
+    private static int[] edge(Map<Integer, Integer> index, Requirement req) {
+        Integer course = index.get(req.getIdCourse());
+        Integer required = req.getIdCourseRequirement() != null ? index.get(req.getIdCourseRequirement()) : null;
+        if (course == null || required == null || course.equals(required)) return null;
+        return new int[]{course, required};
+    }
+
+    private static int[][] allocate(int[] counts) {
+        int[][] lists = new int[counts.length][];
+        for (int i = 0; i < counts.length; i++) {
+            lists[i] = counts[i] == 0 ? NONE : new int[counts[i]];
+        }
+        return lists;
+    }
+
+    // Kahn's algorithm over prerequisite edges; nodes caught in a cycle are appended at the end
+    private int[] computeTopologicalOrder() {
+        int n = courseIds.length;
+        int[] inDegree = new int[n];
+        for (int node = 0; node < n; node++) {
+            inDegree[node] = prerequisites[node].length;
+        }
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int node = 0; node < n; node++) {
+            if (inDegree[node] == 0) order[tail++] = node;
+        }
+        while (head < tail) {
+            int node = order[head++];
+            for (int dependent : dependents[node]) {
+                if (--inDegree[dependent] == 0) order[tail++] = dependent;
+            }
+        }
+        if (tail < n) {
+            for (int node = 0; node < n; node++) {
+                if (inDegree[node] > 0) order[tail++] = node;
+            }
+        }
+        return order;
+    }
+
+    public Integer getStudyPlanId() {
+        return studyPlanId;
+    }
+
+    public int size() {
+        return courseIds.length;
+    }
+
+    public int indexOf(Integer courseId) {
+        Integer node = courseId != null ? indexByCourseId.get(courseId) : null;
+        return node != null ? node : -1;
+    }
+
+    public int courseId(int node) {
+        return courseIds[node];
+    }
+
+    public int credits(int node) {
+        return credits[node];
+    }
+
+    // False for prerequisite courses that belong to another plan
+    public boolean isPlanCourse(int node) {
+        return node < planSize;
+    }
+
+    public int[] prerequisites(int node) {
+        return prerequisites[node];
+    }
+
+    public int[] corequisites(int node) {
+        return corequisites[node];
+    }
+
+    public int[] dependents(int node) {
+        return dependents[node];
+    }
+
+    public int[] topologicalOrder() {
+        return topologicalOrder;
+    }
+
+    public boolean prerequisitesMet(int node, BitSet passed) {
+        for (int required : prerequisites[node]) {
+            if (!passed.get(required)) return false;
+        }
+        return true;
+    }
+
+    // Every node reachable from the seeds through dependent edges, seeds included
+    public BitSet dependentClosure(BitSet seeds) {
+        BitSet reached = (BitSet) seeds.clone();
+        int[] stack = new int[size()];
+        int top = 0;
+        for (int node = seeds.nextSetBit(0); node >= 0; node = seeds.nextSetBit(node + 1)) {
+            stack[top++] = node;
+        }
+        while (top > 0) {
+            int node = stack[--top];
+            for (int dependent : dependents[node]) {
+                if (!reached.get(dependent)) {
+                    reached.set(dependent);
+                    stack[top++] = dependent;
+                }
+            }
+        }
+        return reached;
+    }
+}
@@ -0,0 +1,49 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.jpa.CourseRepository;
+import com.studyplan.studyPlanMicroservice.jpa.RequirementRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+public class RequirementGraphCache {
+
+    private final CourseRepository courseRepository;
+    private final RequirementRepository requirementRepository;
+
+    private final Map<Integer, RequirementGraph> graphs = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public RequirementGraph getGraph(Integer studyPlanId) {
+        RequirementGraph graph = graphs.get(studyPlanId);
+        if (graph != null) {
+            return graph;
+        }
+        long seen = generation.get();
+        graph = RequirementGraph.build(studyPlanId,
+                courseRepository.findByIdStudyPlan(studyPlanId),
+                requirementRepository.findByStudyPlan(studyPlanId));
+        // Don't publish a graph that an invalidation raced with while it was being built
+        if (generation.get() == seen) {
+            graphs.putIfAbsent(studyPlanId, graph);
+        }
+        return graph;
+    }
+
+    public void invalidate(Integer studyPlanId) {
+        if (studyPlanId == null) return;
+        evict(studyPlanId);
+        // Other requests may rebuild from pre-commit rows meanwhile, so evict again when the writer ends
+        TransactionCallbacks.afterCompletion(() -> evict(studyPlanId));
+    }
+
+    private void evict(Integer studyPlanId) {
+        generation.incrementAndGet();
+        graphs.remove(studyPlanId);
+    }
+}
@@ -1,13 +1,24 @@
 package com.studyplan.studyPlanMicroservice.service;
 
+import com.studyplan.studyPlanMicroservice.data.SimulationData;
 import com.studyplan.studyPlanMicroservice.data.StudentCourseData;
+import com.studyplan.studyPlanMicroservice.data.StudentCourseStatusRow;
 import com.studyplan.studyPlanMicroservice.domain.*;
 import com.studyplan.studyPlanMicroservice.jpa.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,98 +30,82 @@ public class StudentCourseService {
     private final CourseRepository courseRepository;
     private final StatusRepository statusRepository;
     private final RequirementRepository requirementRepository;
-    private final UserPlanRepository userPlanRepository;
+    private final RequirementGraphCache requirementGraphCache;
+    private final UnlockEngine unlockEngine;
+    private final ProgressService progressService;
+    private final FollowGraphService followGraphService;
+    private final ReferenceDataCache referenceDataCache;
 
-    private static final int STATUS_AVAILABLE = 1;
-    private static final int STATUS_IN_PROGRESS = 2;
-    private static final int STATUS_LOCKED = 3;
-    private static final int STATUS_PASSED = 4;
+    static final int STATUS_AVAILABLE = 1;
+    static final int STATUS_IN_PROGRESS = 2;
+    static final int STATUS_LOCKED = 3;
+    static final int STATUS_PASSED = 4;
 
     @Transactional(readOnly = true)
     public List<StudentCourseData> getStudentCoursesByUser(Integer userId) {
-        return studentCourseRepository.findByUser_IdUser(userId).stream()
-                .map(this::toData)
-                .collect(Collectors.toList());
-    }
-
-    @Transactional
-    public void syncPlanCoursesForAllUsers(Integer planId) {
-        List<UserPlan> userPlans = userPlanRepository.findByIdStudyPlan(planId);
-        for (UserPlan up : userPlans) {
-            initializeStudentPlan(up.getIdUser(), planId);
-        }
+        return studentCourseRepository.findDataByUser(userId);
     }
 
     @Transactional
     public void recalculateAllStatuses(Integer userId) {
-        List<StudentCourse> userCourses = studentCourseRepository.findByUser_IdUser(userId);
-        Status available = statusRepository.findById(STATUS_AVAILABLE).orElseThrow();
-        Status locked = statusRepository.findById(STATUS_LOCKED).orElseThrow();
-
-        for (StudentCourse sc : userCourses) {
-            // Only update if it's currently LOCKED or AVAILABLE. 
-            // PASSED and IN_PROGRESS are manual states.
-            if (sc.getStatus().getIdStatus() == STATUS_LOCKED || sc.getStatus().getIdStatus() == STATUS_AVAILABLE) {
-                if (areAllRequirementsMet(userId, sc.getCourse().getIdCourse())) {
-                    if (sc.getStatus().getIdStatus() == STATUS_LOCKED) {
-                        sc.setStatus(available);
-                        studentCourseRepository.save(sc);
-                    }
-                } else {
-                    if (sc.getStatus().getIdStatus() == STATUS_AVAILABLE) {
-                        sc.setStatus(locked);
-                        studentCourseRepository.save(sc);
-                    }
-                }
-            }
-        }
+        // Single pass: statuses are read once, each plan is walked in topological order against the
+        // compiled graph and only the rows that change are written back in one batch
+        List<StudentCourseStatusRow> rows = studentCourseRepository.findStatusRowsByUser(userId);
+        Map<Integer, Integer> targetByCourse = new HashMap<>();
+        rows.stream()
+                .map(StudentCourseStatusRow::getIdStudyPlan)
+                .distinct()
+                .forEach(planId -> targetByCourse.putAll(
+                        unlockEngine.evaluate(requirementGraphCache.getGraph(planId), rows, null)));
+        applyStatusChanges(rows, targetByCourse);
     }
 
     @Transactional
     public void initializeStudentPlan(Integer userId, Integer planId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<Course> courses = courseRepository.findByIdStudyPlan(planId);
-        Status available = statusRepository.findById(STATUS_AVAILABLE).orElseThrow();
-        Status locked = statusRepository.findById(STATUS_LOCKED).orElseThrow();
-
-        for (Course course : courses) {
-            // Check if already exists to avoid duplicates
-            boolean exists = studentCourseRepository.findByUser_IdUser(userId).stream()
-                    .anyMatch(sc -> sc.getCourse().getIdCourse().equals(course.getIdCourse()));
-            
-            if (!exists) {
-                List<Requirement> reqs = requirementRepository.findByIdCourse(course.getIdCourse());
-                // Only PREREQUISITES cause it to be LOCKED initially.
-                boolean hasPrerequisites = reqs.stream().anyMatch(r -> "PREREQUISITE".equals(r.getTypeRequirement()));
-                Status initialStatus = hasPrerequisites ? locked : available;
-
-                StudentCourse sc = StudentCourse.builder()
-                        .user(user)
-                        .course(course)
-                        .status(initialStatus)
-                        .numTimesTaken(0)
-                        .build();
-                studentCourseRepository.save(sc);
-            }
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+
+        RequirementGraph graph = requirementGraphCache.getGraph(planId);
+        // One read of the user's rows gives both the courses already present and the passed set
+        List<StudentCourseStatusRow> rows = studentCourseRepository.findStatusRowsByUser(userId);
+        Set<Integer> existingCourses = new HashSet<>();
+        BitSet passed = new BitSet(graph.size());
+        for (StudentCourseStatusRow row : rows) {
+            existingCourses.add(row.getIdCourse());
+            int node = graph.indexOf(row.getIdCourse());
+            if (node >= 0 && row.getIdStatus() == STATUS_PASSED) passed.set(node);
         }
+
+        // Only PREREQUISITES cause a course to start LOCKED, unless the user already passed them
+        Map<Integer, Integer> missing = new LinkedHashMap<>();
+        for (int node = 0; node < graph.size(); node++) {
+            if (!graph.isPlanCourse(node) || existingCourses.contains(graph.courseId(node))) continue;
+            missing.put(graph.courseId(node), graph.prerequisitesMet(node, passed) ? STATUS_AVAILABLE : STATUS_LOCKED);
+        }
+        studentCourseRepository.batchInsertMissing(userId, missing);
+        progressService.rebuild(userId, planId);
     }
 
     @Transactional
     public StudentCourseData createOrUpdateStudentCourse(StudentCourseData data) {
-        User user = userRepository.findById(data.getIdUser())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (!userRepository.existsById(data.getIdUser())) {
+            throw new RuntimeException("User not found");
+        }
         Course course = courseRepository.findById(data.getIdCourse())
                 .orElseThrow(() -> new RuntimeException("Course not found"));
-        Status status = statusRepository.findById(data.getIdStatus())
-                .orElseThrow(() -> new RuntimeException("Status not found"));
+        // Validated against the cached snapshot; the reference is an uninitialized proxy, so no status query runs
+        if (!referenceDataCache.statusExists(data.getIdStatus())) {
+            throw new RuntimeException("Status not found");
+        }
+        Status status = statusRepository.getReferenceById(data.getIdStatus());
 
-        StudentCourse existing = studentCourseRepository.findByUser_IdUser(data.getIdUser()).stream()
-                .filter(sc -> sc.getCourse().getIdCourse().equals(data.getIdCourse()))
-                .findFirst()
+        StudentCourse existing = studentCourseRepository
+                .findByUser_IdUserAndCourse_IdCourse(data.getIdUser(), data.getIdCourse())
                 .orElse(null);
 
+        Integer previousStatus = existing != null ? existing.getStatus().getIdStatus() : null;
+
         StudentCourse studentCourse;
         if (existing != null) {
             existing.setStatus(status);
@@ -118,7 +113,7 @@ public class StudentCourseService {
             studentCourse = studentCourseRepository.save(existing);
         } else {
             studentCourse = StudentCourse.builder()
-                    .user(user)
+                    .user(userRepository.getReferenceById(data.getIdUser()))
                     .course(course)
                     .status(status)
                     .numTimesTaken(data.getNumTimesTaken() != null ? data.getNumTimesTaken() : 0)
@@ -126,58 +121,229 @@ public class StudentCourseService {
             studentCourse = studentCourseRepository.save(studentCourse);
         }
 
-        // If course is passed, check unlocks
-        if (data.getIdStatus() == STATUS_PASSED) {
-            checkAndUnlockCourses(data.getIdUser(), data.getIdCourse());
+        // Passing (or un-passing) a course can unlock or re-lock its dependents
+        if (data.getIdStatus() == STATUS_PASSED || Objects.equals(previousStatus, STATUS_PASSED)) {
+            checkAndUnlockCourses(data.getIdUser(), course);
+        }
+        progressService.onStatusChanged(data.getIdUser(), course, previousStatus, data.getIdStatus());
+        if (isFeedEvent(previousStatus, data.getIdStatus())) {
+            followGraphService.publishProgress(data.getIdUser(), course, data.getIdStatus());
         }
 
         return toData(studentCourse);
     }
 
-    private void checkAndUnlockCourses(Integer userId, Integer passedCourseId) {
-        // Find courses that depend on this one
-        List<Requirement> dependentReqs = requirementRepository.findByIdCourseRequirement(passedCourseId);
-        Status available = statusRepository.findById(STATUS_AVAILABLE).orElseThrow();
-
-        for (Requirement req : dependentReqs) {
-            Integer dependentCourseId = req.getIdCourse();
-            
-            // Check if ALL requirements for this dependent course are passed
-            if (areAllRequirementsMet(userId, dependentCourseId)) {
-                // Update status to AVAILABLE if it was LOCKED
-                StudentCourse dependentSc = studentCourseRepository.findByUser_IdUser(userId).stream()
-                        .filter(sc -> sc.getCourse().getIdCourse().equals(dependentCourseId))
-                        .findFirst()
-                        .orElse(null);
-                
-                if (dependentSc != null && dependentSc.getStatus().getIdStatus() == STATUS_LOCKED) {
-                    dependentSc.setStatus(available);
-                    studentCourseRepository.save(dependentSc);
+    @Transactional
+    public List<StudentCourseData> updateStudentCoursesBatch(Integer userId, List<StudentCourseData> updates) {
+        if (updates.isEmpty()) return List.of();
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+
+        // 1. Validate everything up front so a batch is applied entirely or not at all
+        Map<Integer, StudentCourseData> byCourse = new LinkedHashMap<>();
+        for (StudentCourseData update : updates) {
+            if (!referenceDataCache.statusExists(update.getIdStatus())) {
+                throw new RuntimeException("Status not found: " + update.getIdStatus());
+            }
+            if (byCourse.putIfAbsent(update.getIdCourse(), update) != null) {
+                throw new RuntimeException("Duplicate course in batch: " + update.getIdCourse());
+            }
+        }
+        Map<Integer, Course> courses = courseRepository.findAllById(byCourse.keySet()).stream()
+                .collect(Collectors.toMap(Course::getIdCourse, c -> c));
+        for (Integer courseId : byCourse.keySet()) {
+            if (!courses.containsKey(courseId)) {
+                throw new RuntimeException("Course not found: " + courseId);
+            }
+        }
+
+        // 2. One upsert batch for all rows, keeping numTimesTaken when it is not given
+        Map<Integer, StudentCourseData> current = studentCourseRepository.findDataByUser(userId).stream()
+                .collect(Collectors.toMap(StudentCourseData::getIdCourse, row -> row));
+        List<StudentCourseData> rows = new ArrayList<>(byCourse.size());
+        Set<Integer> passedChanges = new HashSet<>();
+        Map<Integer, int[]> progressDeltaByPlan = new HashMap<>();
+        byCourse.forEach((courseId, update) -> {
+            StudentCourseData existing = current.get(courseId);
+            Integer numTimesTaken = update.getNumTimesTaken() != null ? update.getNumTimesTaken()
+                    : existing != null ? existing.getNumTimesTaken() : 0;
+            rows.add(StudentCourseData.builder()
+                    .idCourse(courseId)
+                    .idStatus(update.getIdStatus())
+                    .numTimesTaken(numTimesTaken)
+                    .build());
+
+            if (isFeedEvent(existing != null ? existing.getIdStatus() : null, update.getIdStatus())) {
+                followGraphService.publishProgress(userId, courses.get(courseId), update.getIdStatus());
+            }
+
+            boolean wasPassed = existing != null && Objects.equals(existing.getIdStatus(), STATUS_PASSED);
+            boolean isPassed = update.getIdStatus() == STATUS_PASSED;
+            if (wasPassed != isPassed) {
+                Course course = courses.get(courseId);
+                passedChanges.add(courseId);
+                int sign = isPassed ? 1 : -1;
+                int[] delta = progressDeltaByPlan.computeIfAbsent(course.getIdStudyPlan(), k -> new int[2]);
+                delta[0] += sign;
+                delta[1] += sign * (course.getNumCredits() != null ? course.getNumCredits() : 0);
+            }
+        });
+        studentCourseRepository.batchUpsert(userId, rows);
+
+        // 3. A single unlock evaluation over the combined result; courses in the batch keep the status they were given
+        if (!passedChanges.isEmpty()) {
+            List<StudentCourseStatusRow> statusRows = studentCourseRepository.findStatusRowsByUser(userId);
+            Map<Integer, Integer> targets = cascade(statusRows, passedChanges);
+            targets.keySet().removeAll(byCourse.keySet());
+            applyStatusChanges(statusRows, targets);
+        }
+        progressDeltaByPlan.forEach((planId, delta) -> progressService.onApprovedChanged(userId, planId, delta[0], delta[1]));
+
+        return studentCourseRepository.findDataByUser(userId).stream()
+                .filter(row -> byCourse.containsKey(row.getIdCourse()))
+                .collect(Collectors.toList());
+    }
+
+    // Read-only: hypothetical statuses are applied to an in-memory copy of the user's rows
+    @Transactional(readOnly = true)
+    public SimulationData simulate(Integer userId, List<StudentCourseData> changes) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+        Map<Integer, StudentCourseStatusRow> byCourse = new LinkedHashMap<>();
+        for (StudentCourseStatusRow row : studentCourseRepository.findStatusRowsByUser(userId)) {
+            byCourse.put(row.getIdCourse(), new StudentCourseStatusRow(
+                    row.getIdStudentCourse(), row.getIdCourse(), row.getIdStudyPlan(), row.getIdStatus()));
+        }
+
+        // Courses without a row yet are resolved in one query
+        Set<Integer> unknown = new HashSet<>();
+        for (StudentCourseData change : changes) {
+            if (!referenceDataCache.statusExists(change.getIdStatus())) {
+                throw new RuntimeException("Status not found: " + change.getIdStatus());
+            }
+            if (!byCourse.containsKey(change.getIdCourse())) unknown.add(change.getIdCourse());
+        }
+        if (!unknown.isEmpty()) {
+            for (Course course : courseRepository.findAllById(unknown)) {
+                byCourse.put(course.getIdCourse(), new StudentCourseStatusRow(null, course.getIdCourse(), course.getIdStudyPlan(), null));
+                unknown.remove(course.getIdCourse());
+            }
+            if (!unknown.isEmpty()) {
+                throw new RuntimeException("Course not found: " + unknown.iterator().next());
+            }
+        }
+
+        Map<Integer, Integer> statusBefore = new HashMap<>();
+        byCourse.forEach((courseId, row) -> statusBefore.put(courseId, row.getIdStatus()));
+
+        Set<Integer> passedChanges = new HashSet<>();
+        Set<Integer> changedCourses = new HashSet<>();
+        int approvedCoursesDelta = 0;
+        int approvedCreditsDelta = 0;
+        for (StudentCourseData change : changes) {
+            StudentCourseStatusRow row = byCourse.get(change.getIdCourse());
+            boolean wasPassed = Objects.equals(row.getIdStatus(), STATUS_PASSED);
+            boolean isPassed = change.getIdStatus() == STATUS_PASSED;
+            row.setIdStatus(change.getIdStatus());
+            changedCourses.add(change.getIdCourse());
+            if (wasPassed != isPassed) {
+                RequirementGraph graph = requirementGraphCache.getGraph(row.getIdStudyPlan());
+                int sign = isPassed ? 1 : -1;
+                approvedCoursesDelta += sign;
+                approvedCreditsDelta += sign * creditsOf(graph, row.getIdCourse());
+                passedChanges.add(row.getIdCourse());
+            }
+        }
+
+        List<StudentCourseData> newlyAvailable = new ArrayList<>();
+        List<StudentCourseData> newlyLocked = new ArrayList<>();
+        if (!passedChanges.isEmpty()) {
+            Map<Integer, Integer> targets = cascade(new ArrayList<>(byCourse.values()), passedChanges);
+            targets.keySet().removeAll(changedCourses);
+            targets.forEach((courseId, target) -> {
+                StudentCourseStatusRow row = byCourse.get(courseId);
+                row.setIdStatus(target);
+                StudentCourseData data = StudentCourseData.builder()
+                        .idStudentCourse(row.getIdStudentCourse())
+                        .idStatus(target)
+                        .statusName(referenceDataCache.statusName(target))
+                        .idUser(userId)
+                        .idCourse(courseId)
+                        .build();
+                if (target == STATUS_AVAILABLE) {
+                    newlyAvailable.add(data);
+                } else {
+                    newlyLocked.add(data);
                 }
+            });
+        }
+
+        // Compared row by row, so courses the changes themselves move in or out of AVAILABLE count too
+        int availableCreditsDelta = 0;
+        for (StudentCourseStatusRow row : byCourse.values()) {
+            boolean wasAvailable = Objects.equals(statusBefore.get(row.getIdCourse()), STATUS_AVAILABLE);
+            boolean isAvailable = Objects.equals(row.getIdStatus(), STATUS_AVAILABLE);
+            if (wasAvailable != isAvailable) {
+                int credits = creditsOf(requirementGraphCache.getGraph(row.getIdStudyPlan()), row.getIdCourse());
+                availableCreditsDelta += isAvailable ? credits : -credits;
             }
         }
+
+        return SimulationData.builder()
+                .idUser(userId)
+                .newlyAvailable(newlyAvailable)
+                .newlyLocked(newlyLocked)
+                .approvedCoursesDelta(approvedCoursesDelta)
+                .approvedCreditsDelta(approvedCreditsDelta)
+                .availableCreditsDelta(availableCreditsDelta)
+                .build();
     }
 
-    private boolean areAllRequirementsMet(Integer userId, Integer courseId) {
-        List<Requirement> requirements = requirementRepository.findByIdCourse(courseId);
-        List<StudentCourse> userCourses = studentCourseRepository.findByUser_IdUser(userId);
+    // Starting or passing a course is shown in followers' feeds; automatic lock/unlock changes are not
+    private static boolean isFeedEvent(Integer previousStatus, Integer newStatus) {
+        return !Objects.equals(previousStatus, newStatus)
+                && (Objects.equals(newStatus, STATUS_IN_PROGRESS) || Objects.equals(newStatus, STATUS_PASSED));
+    }
+
+    private static int creditsOf(RequirementGraph graph, Integer courseId) {
+        int node = graph.indexOf(courseId);
+        return node >= 0 ? graph.credits(node) : 0;
+    }
+
+    private void checkAndUnlockCourses(Integer userId, Course changedCourse) {
+        // One read of the user's statuses; the cascade itself is evaluated in memory against the plan graphs
+        List<StudentCourseStatusRow> rows = studentCourseRepository.findStatusRowsByUser(userId);
+        applyStatusChanges(rows, cascade(rows, List.of(changedCourse.getIdCourse())));
+    }
+
+    // Courses of any plan may require the changed ones, so every plan with such a requirement is evaluated
+    private Map<Integer, Integer> cascade(List<StudentCourseStatusRow> rows, Collection<Integer> changedCourseIds) {
+        Map<Integer, Integer> targets = new HashMap<>();
+        for (Integer planId : requirementRepository.findDependentPlanIds(changedCourseIds)) {
+            targets.putAll(unlockEngine.evaluate(requirementGraphCache.getGraph(planId), rows, changedCourseIds));
+        }
+        return targets;
+    }
 
-        for (Requirement req : requirements) {
-            if ("PREREQUISITE".equals(req.getTypeRequirement())) {
-                boolean isPassed = userCourses.stream()
-                        .anyMatch(sc -> sc.getCourse().getIdCourse().equals(req.getIdCourseRequirement()) 
-                                     && sc.getStatus().getIdStatus() == STATUS_PASSED);
-                if (!isPassed) return false;
+    private void applyStatusChanges(List<StudentCourseStatusRow> rows, Map<Integer, Integer> targetByCourse) {
+        if (targetByCourse.isEmpty()) return;
+        Map<Integer, Integer> statusByRow = new HashMap<>();
+        for (StudentCourseStatusRow row : rows) {
+            Integer target = targetByCourse.get(row.getIdCourse());
+            if (target != null && !target.equals(row.getIdStatus())) {
+                statusByRow.put(row.getIdStudentCourse(), target);
             }
         }
-        return true;
+        studentCourseRepository.batchUpdateStatus(statusByRow);
     }
 
     private StudentCourseData toData(StudentCourse entity) {
         return StudentCourseData.builder()
                 .idStudentCourse(entity.getIdStudentCourse())
                 .idStatus(entity.getStatus().getIdStatus())
-                .statusName(entity.getStatus().getDscName())
+                .statusName(referenceDataCache.statusName(entity.getStatus().getIdStatus()))
                 .idUser(entity.getUser().getIdUser())
                 .idCourse(entity.getCourse().getIdCourse())
                 .numTimesTaken(entity.getNumTimesTaken())
@@ -1,5 +1,6 @@
 package com.studyplan.studyPlanMicroservice.service;
 
+import com.studyplan.studyPlanMicroservice.data.CursorPageResponse;
 import com.studyplan.studyPlanMicroservice.data.PageResponse;
 import com.studyplan.studyPlanMicroservice.data.StudyPlanData;
 import com.studyplan.studyPlanMicroservice.domain.StudyPlan;
@@ -7,16 +8,19 @@ import com.studyplan.studyPlanMicroservice.jpa.StudyPlanRepository;
 
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +30,8 @@ public class StudyPlanService {
     private final StudyPlanRepository studyPlanRepository;
     private final UserService userService;
     private final StudentCourseService studentCourseService;
+    private final CatalogSearchService catalogSearchService;
+    private final AutocompleteService autocompleteService;
 
     @Transactional
     public StudyPlanData createStudyPlan(StudyPlanData data, String userEmail) {
@@ -55,6 +61,8 @@ public class StudyPlanService {
                 .build();
 
         StudyPlan saved = studyPlanRepository.save(studyPlan);
+        catalogSearchService.indexStudyPlan(saved);
+        autocompleteService.careerChanged(null, saved.getDscCareer());
         
         // Link to user
         studyPlanRepository.linkUserToPlan(user.getIdUser(), saved.getIdStudyPlan());
@@ -63,12 +71,20 @@ public class StudyPlanService {
         return toData(saved);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<StudyPlanData> getStudyPlansByUser(String email) {
-        // Asegurar que el usuario existe en MySQL al consultar
-        userService.getOrCreateUserByEmail(email);
-        
-        return studyPlanRepository.findByUserEmail(email)
+        Optional<Integer> userId = userService.findUserIdByEmail(email);
+        if (userId.isEmpty()) {
+            // Asegurar que el usuario existe en MySQL al consultar; a brand-new user has no plans yet
+            try {
+                userService.createUserForEmail(email);
+            } catch (DataIntegrityViolationException e) {
+                // Created concurrently by another request
+            }
+            return List.of();
+        }
+
+        return studyPlanRepository.findByUserId(userId.get())
                 .stream()
                 .map(this::toData)
                 .collect(Collectors.toList());
@@ -115,6 +131,19 @@ public class StudyPlanService {
         return PageResponse.from(studyPlanPage, this::toData);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<StudyPlanData> scrollStudyPlans(String name, String career, String yearLevel, Integer universityId, Boolean status, String cursor, Integer size, boolean withTotal) {
+        Specification<StudyPlan> specification = buildSpecification(name, career, yearLevel, universityId, status);
+        Window<StudyPlan> window = KeysetCursor.scroll(studyPlanRepository, specification, "dscName", "idStudyPlan", cursor, size);
+        return CursorPageResponse.<StudyPlanData>builder()
+                .content(window.getContent().stream().map(this::toData).collect(Collectors.toList()))
+                .nextCursor(KeysetCursor.nextCursor(window, "dscName", "idStudyPlan"))
+                .hasNext(window.hasNext())
+                .pageSize(size)
+                .totalElements(withTotal ? studyPlanRepository.count(specification) : null)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public List<StudyPlanData> getStudyPlansByUniversity(Integer universityId) {
         return studyPlanRepository.findByIdUniversity(universityId)
@@ -128,6 +157,7 @@ public class StudyPlanService {
         StudyPlan studyPlan = studyPlanRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Study plan not found: " + id));
 
+        String previousCareer = studyPlan.getDscCareer();
         studyPlan.setIdUniversity(data.getIdUniversity());
         studyPlan.setDscName(data.getDscName());
         studyPlan.setDscCareer(data.getDscCareer());
@@ -136,15 +166,18 @@ public class StudyPlanService {
         studyPlan.setStatus(data.getStatus());
 
         StudyPlan updated = studyPlanRepository.save(studyPlan);
+        catalogSearchService.indexStudyPlan(updated);
+        autocompleteService.careerChanged(previousCareer, updated.getDscCareer());
         return toData(updated);
     }
 
     @Transactional
     public void deleteStudyPlan(Integer id) {
-        if (!studyPlanRepository.existsById(id)) {
-            throw new RuntimeException("Study plan not found: " + id);
-        }
-        studyPlanRepository.deleteById(id);
+        StudyPlan studyPlan = studyPlanRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Study plan not found: " + id));
+        studyPlanRepository.delete(studyPlan);
+        catalogSearchService.removeStudyPlan(id);
+        autocompleteService.careerChanged(studyPlan.getDscCareer(), null);
     }
 
     private Specification<StudyPlan> buildSpecification(String name, String career, String yearLevel, Integer universityId, Boolean status) {
@@ -1,5 +1,6 @@
 package com.studyplan.studyPlanMicroservice.service;
 
+import com.studyplan.studyPlanMicroservice.data.CursorPageResponse;
 import com.studyplan.studyPlanMicroservice.data.PageResponse;
 import com.studyplan.studyPlanMicroservice.data.UniversityData;
 import com.studyplan.studyPlanMicroservice.domain.University;
@@ -8,21 +9,26 @@ import com.studyplan.studyPlanMicroservice.jpa.UniversityRepository;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UniversityService {
 
     private final UniversityRepository universityRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final AutocompleteService autocompleteService;
 
     @Transactional
     public UniversityData createUniversity(UniversityData data) {
@@ -37,17 +43,17 @@ public class UniversityService {
                 .build();
 
         University saved = universityRepository.save(university);
+        TransactionCallbacks.afterCommit(referenceDataCache::refreshUniversities);
+        autocompleteService.universityChanged(null, saved.getDscName());
         return toData(saved);
     }
 
-    @Transactional(readOnly = true)
     public UniversityData getUniversityById(Integer id) {
-        University university = universityRepository.findById(id)
+        return referenceDataCache.university(id)
+                .map(this::toData)
                 .orElseThrow(() -> new RuntimeException("University not found: " + id));
-        return toData(university);
     }
 
-    @Transactional(readOnly = true)
     public PageResponse<UniversityData> getAllUniversities(Integer page, Integer size) {
         Pageable pageable = PageRequest.of(
                 page,
@@ -55,7 +61,11 @@ public class UniversityService {
                 Sort.by(Sort.Direction.ASC, "dscName")
         );
 
-        Page<University> universityPage = universityRepository.findAll(pageable);
+        // Served from the name-ordered snapshot
+        List<ReferenceDataCache.UniversityEntry> all = referenceDataCache.universitiesByName();
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + size, all.size());
+        Page<ReferenceDataCache.UniversityEntry> universityPage = new PageImpl<>(all.subList(from, to), pageable, all.size());
 
         return PageResponse.from(universityPage, this::toData);
     }
@@ -79,25 +89,42 @@ public class UniversityService {
         return PageResponse.from(universityPage, this::toData);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UniversityData> scrollUniversities(String name, String country, Boolean status, String cursor, Integer size, boolean withTotal) {
+        Specification<University> specification = buildSpecification(name, country, status);
+        Window<University> window = KeysetCursor.scroll(universityRepository, specification, "dscName", "idUniversity", cursor, size);
+        return CursorPageResponse.<UniversityData>builder()
+                .content(window.getContent().stream().map(this::toData).collect(Collectors.toList()))
+                .nextCursor(KeysetCursor.nextCursor(window, "dscName", "idUniversity"))
+                .hasNext(window.hasNext())
+                .pageSize(size)
+                .totalElements(withTotal ? universityRepository.count(specification) : null)
+                .build();
+    }
+
     @Transactional
     public UniversityData updateUniversity(Integer id, UniversityData data) {
         University university = universityRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("University not found: " + id));
 
+        String previousName = university.getDscName();
         university.setDscName(data.getDscName());
         university.setDscCountry(data.getDscCountry());
         university.setStatus(data.getStatus());
 
         University updated = universityRepository.save(university);
+        TransactionCallbacks.afterCommit(referenceDataCache::refreshUniversities);
+        autocompleteService.universityChanged(previousName, updated.getDscName());
         return toData(updated);
     }
 
     @Transactional
     public void deleteUniversity(Integer id) {
-        if (!universityRepository.existsById(id)) {
-            throw new RuntimeException("University not found: " + id);
-        }
-        universityRepository.deleteById(id);
+        University university = universityRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("University not found: " + id));
+        universityRepository.delete(university);
+        TransactionCallbacks.afterCommit(referenceDataCache::refreshUniversities);
+        autocompleteService.universityChanged(university.getDscName(), null);
     }
 
     private Specification<University> buildSpecification(String name, String country, Boolean status) {
@@ -130,6 +157,15 @@ public class UniversityService {
         };
     }
 
+    private UniversityData toData(ReferenceDataCache.UniversityEntry university) {
+        return UniversityData.builder()
+                .idUniversity(university.id())
+                .dscName(university.name())
+                .dscCountry(university.country())
+                .status(university.status())
+                .build();
+    }
+
     private UniversityData toData(University university) {
         return UniversityData.builder()
                 .idUniversity(university.getIdUniversity())
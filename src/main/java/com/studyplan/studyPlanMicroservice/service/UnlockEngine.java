@@ -0,0 +1,65 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.StudentCourseStatusRow;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_AVAILABLE;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_LOCKED;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_PASSED;
+
+@Component
+public class UnlockEngine {
+
+    /**
+     * Evaluates the user's passed set against the plan graph and returns courseId -> target status for
+     * every LOCKED/AVAILABLE course whose status no longer matches its prerequisites.
+     * With changedCourseIds the evaluation covers the transitive dependents of those courses (the
+     * changed courses themselves keep the status they were given); with null it covers the whole plan.
+     */
+    public Map<Integer, Integer> evaluate(RequirementGraph graph,
+                                          Collection<StudentCourseStatusRow> rows,
+                                          Collection<Integer> changedCourseIds) {
+        int n = graph.size();
+        int[] statusByNode = new int[n];
+        BitSet passed = new BitSet(n);
+        for (StudentCourseStatusRow row : rows) {
+            int node = graph.indexOf(row.getIdCourse());
+            if (node < 0 || row.getIdStatus() == null) continue;
+            statusByNode[node] = row.getIdStatus();
+            if (row.getIdStatus() == STATUS_PASSED) passed.set(node);
+        }
+
+        BitSet scope;
+        if (changedCourseIds == null) {
+            scope = new BitSet(n);
+            scope.set(0, n);
+        } else {
+            BitSet seeds = new BitSet(n);
+            for (Integer courseId : changedCourseIds) {
+                int node = graph.indexOf(courseId);
+                if (node >= 0) seeds.set(node);
+            }
+            scope = graph.dependentClosure(seeds);
+            scope.andNot(seeds);
+        }
+
+        Map<Integer, Integer> targets = new LinkedHashMap<>();
+        for (int node : graph.topologicalOrder()) {
+            // Courses of other plans are evaluated against their own plan's graph
+            if (!scope.get(node) || !graph.isPlanCourse(node)) continue;
+            int current = statusByNode[node];
+            // PASSED and IN_PROGRESS are manual states; nodes without a row are left alone
+            if (current != STATUS_LOCKED && current != STATUS_AVAILABLE) continue;
+            int target = graph.prerequisitesMet(node, passed) ? STATUS_AVAILABLE : STATUS_LOCKED;
+            if (target != current) {
+                targets.put(graph.courseId(node), target);
+            }
+        }
+        return targets;
+    }
+}
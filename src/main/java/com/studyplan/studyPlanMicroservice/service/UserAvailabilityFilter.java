@@ -0,0 +1,165 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.User;
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bloom-filter pre-check for the username availability lookup. The filter is per process and only sees
+ * values added here since its last rebuild, so a miss means "free as of that rebuild": misses skip the
+ * query only while the filter is younger than the trust window, and a possible hit is always confirmed
+ * against the database. Writes that must not be wrong (signup, profile changes) ask the database directly.
+ * Keys are accent- and case-folded so that anything the column collation treats as equal also
+ * collides here. Renamed and deleted values are never decremented, since a value added on another
+ * instance was never counted here; the periodic rebuild sheds them instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAvailabilityFilter {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${studyplan.availability-filter.bits-per-entry:10}")
+    private int bitsPerEntry;
+
+    @Value("${studyplan.availability-filter.headroom:2.0}")
+    private double headroom;
+
+    @Value("${studyplan.availability-filter.miss-trust-ms:900000}")
+    private long missTrustMillis;
+
+    private final Field usernames = new Field("username");
+
+    @PostConstruct
+    void registerMetrics() {
+        usernames.registerMetrics(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${studyplan.availability-filter.rebuild-interval-ms:600000}",
+            fixedDelayString = "${studyplan.availability-filter.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        usernames.rebuild(userRepository::findAllUsernames);
+        log.info("Availability filter rebuilt");
+    }
+
+    public boolean usernameExists(String username) {
+        return usernames.exists(username, userRepository::existsByUsername);
+    }
+
+    public void userAdded(User user) {
+        String username = user.getUsername();
+        TransactionCallbacks.afterCommit(() -> usernames.add(username));
+    }
+
+    // The previous username stays in the filter until the next rebuild
+    public void userChanged(User user) {
+        userAdded(user);
+    }
+
+    private static String key(String value) {
+        return TextNormalizer.fold(value).strip();
+    }
+
+    private final class Field {
+
+        private final String name;
+        private volatile CountingBloomFilter filter;
+        private volatile long rebuiltAt;
+        // Non-null while a rebuild is reading the table; adds made meanwhile are replayed into the new filter
+        private List<String> addedDuringRebuild;
+
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder confirmed = new LongAdder();
+        private final LongAdder falsePositives = new LongAdder();
+
+        Field(String name) {
+            this.name = name;
+        }
+
+        boolean exists(String value, Predicate<String> database) {
+            CountingBloomFilter current = filter;
+            if (value == null || current == null
+                    || System.nanoTime() - rebuiltAt > TimeUnit.MILLISECONDS.toNanos(missTrustMillis)) {
+                return database.test(value);
+            }
+            if (!current.mightContain(key(value))) {
+                skipped.increment();
+                return false;
+            }
+            boolean exists = database.test(value);
+            (exists ? confirmed : falsePositives).increment();
+            return exists;
+        }
+
+        void rebuild(Supplier<List<String>> source) {
+            long started = System.nanoTime();
+            synchronized (this) {
+                addedDuringRebuild = new ArrayList<>();
+            }
+            List<String> values = source.get();
+            CountingBloomFilter rebuilt = new CountingBloomFilter((int) Math.max(values.size() * headroom, 1024), bitsPerEntry);
+            values.forEach(value -> rebuilt.add(key(value)));
+            synchronized (this) {
+                addedDuringRebuild.forEach(rebuilt::add);
+                addedDuringRebuild = null;
+                filter = rebuilt;
+                rebuiltAt = started;
+            }
+        }
+
+        synchronized void add(String value) {
+            if (value == null) return;
+            String key = key(value);
+            if (addedDuringRebuild != null) addedDuringRebuild.add(key);
+            if (filter != null) filter.add(key);
+        }
+
+        void registerMetrics(MeterRegistry registry) {
+            counter(registry, "filtered", skipped);
+            counter(registry, "confirmed", confirmed);
+            counter(registry, "false_positive", falsePositives);
+            Gauge.builder("studyplan.availability.false_positive_rate", this, Field::observedFalsePositiveRate)
+                    .description("Share of values absent from the table that the filter still sent to the database")
+                    .tag("field", name)
+                    .register(registry);
+            Gauge.builder("studyplan.availability.expected_false_positive_rate", this,
+                            field -> field.filter != null ? field.filter.expectedFalsePositiveRate() : Double.NaN)
+                    .description("False-positive probability predicted from the filter's fill")
+                    .tag("field", name)
+                    .register(registry);
+        }
+
+        private void counter(MeterRegistry registry, String result, LongAdder adder) {
+            FunctionCounter.builder("studyplan.availability.checks", adder, LongAdder::sum)
+                    .description("Username existence checks by outcome")
+                    .tag("field", name)
+                    .tag("result", result)
+                    .register(registry);
+        }
+
+        private double observedFalsePositiveRate() {
+            long negatives = skipped.sum() + falsePositives.sum();
+            return negatives == 0 ? 0.0 : (double) falsePositives.sum() / negatives;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.UserData;
+import com.studyplan.studyPlanMicroservice.domain.StudyPlan;
+import com.studyplan.studyPlanMicroservice.domain.User;
+import com.studyplan.studyPlanMicroservice.domain.UserPlan;
+import com.studyplan.studyPlanMicroservice.domain.UserPlanId;
+import com.studyplan.studyPlanMicroservice.domain.UserFollowStats;
+import com.studyplan.studyPlanMicroservice.domain.UserPlanProgress;
+import com.studyplan.studyPlanMicroservice.jpa.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds UserData for a batch of users with a fixed number of grouped queries
+ * (plans, materialized progress, follower counters) regardless of the batch size.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDataAssembler {
+
+    private final UserPlanRepository userPlanRepository;
+    private final StudyPlanRepository studyPlanRepository;
+    private final UserPlanProgressRepository userPlanProgressRepository;
+    private final UserFollowStatsRepository userFollowStatsRepository;
+    private final LastLoginBuffer lastLoginBuffer;
+
+    public UserData toData(User user) {
+        return toData(List.of(user)).get(0);
+    }
+
+    public List<UserData> toData(List<User> users) {
+        if (users.isEmpty()) return List.of();
+        Set<Integer> userIds = users.stream().map(User::getIdUser).collect(Collectors.toSet());
+
+        // 1. Active plan per user (first link, as before)
+        Map<Integer, Integer> planByUser = new HashMap<>();
+        for (UserPlan userPlan : userPlanRepository.findByIdUserIn(userIds)) {
+            planByUser.putIfAbsent(userPlan.getIdUser(), userPlan.getIdStudyPlan());
+        }
+
+        Map<Integer, String> planNames = new HashMap<>();
+        Map<UserPlanId, UserPlanProgress> progressByPair = new HashMap<>();
+        if (!planByUser.isEmpty()) {
+            for (StudyPlan plan : studyPlanRepository.findAllById(Set.copyOf(planByUser.values()))) {
+                planNames.put(plan.getIdStudyPlan(), plan.getDscName());
+            }
+            for (UserPlanProgress row : userPlanProgressRepository.findByIdUserIn(planByUser.keySet())) {
+                progressByPair.put(new UserPlanId(row.getIdUser(), row.getIdStudyPlan()), row);
+            }
+        }
+
+        // 2. Follower counters (users without a stats row have never been followed or followed anyone)
+        Map<Integer, UserFollowStats> followStats = new HashMap<>();
+        for (UserFollowStats row : userFollowStatsRepository.findByIdUserIn(userIds)) {
+            followStats.put(row.getIdUser(), row);
+        }
+
+        return users.stream().map(user -> {
+            Double progress = 0.0;
+            String degreeName = null;
+            Integer planId = planByUser.get(user.getIdUser());
+            if (planId != null && planNames.containsKey(planId)) {
+                degreeName = planNames.get(planId);
+                UserPlanProgress row = progressByPair.get(new UserPlanId(user.getIdUser(), planId));
+                if (row != null && row.getTotalCourses() > 0) {
+                    progress = (double) row.getApprovedCourses() / row.getTotalCourses();
+                }
+            }
+
+            UserFollowStats stats = followStats.get(user.getIdUser());
+            return UserData.builder()
+                    .idUser(user.getIdUser())
+                    .firebaseUid(user.getFirebaseUid())
+                    .username(user.getUsername())
+                    .fullName(user.getFullName())
+                    .email(user.getEmail())
+                    .dateRegister(user.getDateRegister())
+                    .datePurchase(user.getDatePurchase())
+                    .type(user.getType())
+                    .lastLogin(lastLoginBuffer.latest(user.getIdUser(), user.getLastLogin()))
+                    .progress(progress)
+                    .degreeName(degreeName)
+                    .followersCount(stats != null ? stats.getFollowersCount() : 0L)
+                    .followingCount(stats != null ? stats.getFollowingCount() : 0L)
+                    .build();
+        }).collect(Collectors.toList());
+    }
+}
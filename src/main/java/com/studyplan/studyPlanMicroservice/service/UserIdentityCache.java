@@ -0,0 +1,94 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.User;
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of email -> user id and Firebase UID -> user id, answering with the user row.
+ * Users can change both values, and a change on another instance never reaches this cache, so a cached id
+ * is only a hint: the row it loads must still carry the key, otherwise the entry is dropped and the key is
+ * looked up again. "No such user" is cached too, but only briefly, since that is exactly what the next
+ * signup changes. Local writers evict explicitly.
+ */
+@Component
+public class UserIdentityCache {
+
+    private final UserRepository userRepository;
+    private final LruCache<String, Entry> byEmail;
+    private final LruCache<String, Entry> byFirebaseUid;
+    private final long negativeTtlNanos;
+    // Bumped on every eviction; a load that overlapped one is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    // userId is null for a cached miss, which is only trusted until expiresAt
+    private record Entry(Integer userId, long expiresAt) {}
+
+    public UserIdentityCache(UserRepository userRepository,
+                             @Value("${studyplan.identity-cache.max-entries:10000}") int maxEntries,
+                             @Value("${studyplan.identity-cache.negative-ttl-ms:30000}") long negativeTtlMillis) {
+        this.userRepository = userRepository;
+        this.byEmail = new LruCache<>(maxEntries);
+        this.byFirebaseUid = new LruCache<>(maxEntries);
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
+    }
+
+    public Optional<User> userByEmail(String email) {
+        return verified(byEmail, emailKey(email), key -> userRepository.findIdByEmail(email),
+                user -> emailKey(user.getEmail()));
+    }
+
+    public Optional<User> userByFirebaseUid(String firebaseUid) {
+        return verified(byFirebaseUid, firebaseUid, key -> userRepository.findIdByFirebaseUid(firebaseUid),
+                User::getFirebaseUid);
+    }
+
+    // Call with the old and the new values whenever a user is created, changed or deleted
+    public void evict(String email, String firebaseUid) {
+        evictNow(email, firebaseUid);
+        // A reader may re-cache the pre-commit row meanwhile, so evict again when the writer ends
+        TransactionCallbacks.afterCompletion(() -> evictNow(email, firebaseUid));
+    }
+
+    private void evictNow(String email, String firebaseUid) {
+        generation.incrementAndGet();
+        if (email != null) byEmail.remove(emailKey(email));
+        if (firebaseUid != null) byFirebaseUid.remove(firebaseUid);
+    }
+
+    private Optional<User> verified(LruCache<String, Entry> cache, String key, Function<String, Optional<Integer>> loader,
+                                    Function<User, String> keyOf) {
+        Optional<Integer> userId = lookup(cache, key, loader);
+        if (userId.isEmpty()) return Optional.empty();
+        Optional<User> user = userRepository.findById(userId.get()).filter(found -> key.equals(keyOf.apply(found)));
+        if (user.isPresent()) return user;
+        // Changed or deleted elsewhere since it was cached
+        cache.remove(key);
+        return lookup(cache, key, loader).flatMap(userRepository::findById).filter(found -> key.equals(keyOf.apply(found)));
+    }
+
+    private Optional<Integer> lookup(LruCache<String, Entry> cache, String key, Function<String, Optional<Integer>> loader) {
+        if (key == null) return Optional.empty();
+        Entry entry = cache.get(key);
+        if (entry != null && (entry.userId() != null || System.nanoTime() - entry.expiresAt() < 0)) {
+            return Optional.ofNullable(entry.userId());
+        }
+        long before = generation.get();
+        Optional<Integer> userId = loader.apply(key);
+        if (generation.get() == before) {
+            cache.put(key, new Entry(userId.orElse(null), System.nanoTime() + negativeTtlNanos));
+        }
+        return userId;
+    }
+
+    // The email column compares case- and accent-insensitively, so spellings it treats as equal share one entry
+    private static String emailKey(String email) {
+        return email != null ? TextNormalizer.fold(email) : null;
+    }
+}
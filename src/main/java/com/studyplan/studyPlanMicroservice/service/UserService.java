@@ -1,37 +1,49 @@
 package com.studyplan.studyPlanMicroservice.service;
 
+import com.studyplan.studyPlanMicroservice.data.CursorPageResponse;
 import com.studyplan.studyPlanMicroservice.data.PageResponse;
 import com.studyplan.studyPlanMicroservice.data.UserData;
 import com.studyplan.studyPlanMicroservice.domain.User;
-import com.studyplan.studyPlanMicroservice.domain.UserPlan;
-import com.studyplan.studyPlanMicroservice.jpa.*;
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
 
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final UserPlanRepository userPlanRepository;
-    private final StudentCourseRepository studentCourseRepository;
-    private final FollowerRepository followerRepository;
-    private final CourseRepository courseRepository;
-    private final StudyPlanRepository studyPlanRepository;
+    private final UserDataAssembler userDataAssembler;
+    private final AutocompleteService autocompleteService;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final UserIdentityCache userIdentityCache;
+
+    // Calls through the Spring proxy, so createUserForEmail really runs in its own transaction
+    @Lazy
+    @Autowired
+    private UserService self;
 
     @Transactional
     public UserData createUser(UserData data) {
+        // Writes ask the database: the availability filter can miss values written by other instances
         if (userRepository.existsByEmail(data.getEmail())) {
             throw new RuntimeException("User already exists with email: " + data.getEmail());
         }
@@ -50,12 +62,14 @@ public class UserService {
                 .build();
 
         User saved = userRepository.save(user);
+        autocompleteService.usernameChanged(null, saved.getUsername());
+        userAdded(saved);
         return toData(saved);
     }
 
     @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        return userAvailabilityFilter.usernameExists(username);
     }
 
     @Transactional(readOnly = true)
@@ -67,14 +81,14 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserData getUserByEmail(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = userIdentityCache.userByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
         return toData(user);
     }
 
     @Transactional(readOnly = true)
     public UserData getUserByFirebaseUid(String firebaseUid) {
-        User user = userRepository.findByFirebaseUid(firebaseUid)
+        User user = userIdentityCache.userByFirebaseUid(firebaseUid)
                 .orElseThrow(() -> new RuntimeException("User not found with firebaseUid: " + firebaseUid));
         return toData(user);
     }
@@ -82,10 +96,28 @@ public class UserService {
     // Deprecated? kept for compatibility if needed
     @Transactional
     public User getOrCreateUserByEmail(String email) {
-         return userRepository.findByEmail(email).orElseGet(() -> {
-             User newUser = User.builder().email(email).dateRegister(java.time.LocalDateTime.now()).type("freemium").build();
-             return userRepository.save(newUser);
-         });
+        Optional<User> existing = userIdentityCache.userByEmail(email);
+        if (existing.isPresent()) return existing.get();
+        try {
+            return self.createUserForEmail(email);
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently by another request; only its transaction failed, so read the winner's row
+            return userRepository.findByEmailForShare(email).orElseThrow(() -> e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Integer> findUserIdByEmail(String email) {
+        return userIdentityCache.userByEmail(email).map(User::getIdUser);
+    }
+
+    // Own transaction so read-only callers can create a first-time user; a concurrent creation fails on the unique email
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public User createUserForEmail(String email) {
+        User newUser = User.builder().email(email).dateRegister(java.time.LocalDateTime.now()).type("freemium").build();
+        User saved = userRepository.save(newUser);
+        userAdded(saved);
+        return saved;
     }
 
     @Transactional
@@ -95,6 +127,7 @@ public class UserService {
                 .orElseGet(() -> userRepository.findByEmail(email)
                         .map(existingUser -> {
                             existingUser.setFirebaseUid(firebaseUid);
+                            userIdentityCache.evict(null, firebaseUid);
                             return userRepository.save(existingUser);
                         })
                         .orElseGet(() -> {
@@ -104,7 +137,9 @@ public class UserService {
                                     .dateRegister(java.time.LocalDateTime.now())
                                     .type("freemium")
                                     .build();
-                            return userRepository.save(newUser);
+                            User saved = userRepository.save(newUser);
+                            userAdded(saved);
+                            return saved;
                         }));
     }
 
@@ -112,14 +147,27 @@ public class UserService {
     public PageResponse<UserData> getAllUsers(Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "email"));
         Page<User> userPage = userRepository.findAll(pageable);
-        return PageResponse.from(userPage, this::toData);
+        return PageResponse.of(userPage, userDataAssembler.toData(userPage.getContent()));
     }
 
     @Transactional(readOnly = true)
     public PageResponse<UserData> searchUsers(String email, String type, Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "email"));
         Page<User> userPage = userRepository.findAll(buildSpecification(email, type), pageable);
-        return PageResponse.from(userPage, this::toData);
+        return PageResponse.of(userPage, userDataAssembler.toData(userPage.getContent()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserData> scrollUsers(String email, String type, String cursor, Integer size, boolean withTotal) {
+        Specification<User> specification = buildSpecification(email, type);
+        Window<User> window = KeysetCursor.scroll(userRepository, specification, "email", "idUser", cursor, size);
+        return CursorPageResponse.<UserData>builder()
+                .content(userDataAssembler.toData(window.getContent()))
+                .nextCursor(KeysetCursor.nextCursor(window, "email", "idUser"))
+                .hasNext(window.hasNext())
+                .pageSize(size)
+                .totalElements(withTotal ? userRepository.count(specification) : null)
+                .build();
     }
 
     @Transactional
@@ -134,6 +182,9 @@ public class UserService {
              throw new RuntimeException("Username already in use: " + data.getUsername());
         }
 
+        String previousUsername = user.getUsername();
+        String previousEmail = user.getEmail();
+        String previousFirebaseUid = user.getFirebaseUid();
         user.setFirebaseUid(data.getFirebaseUid());
         user.setUsername(data.getUsername());
         user.setFullName(data.getFullName());
@@ -144,23 +195,35 @@ public class UserService {
         user.setType(data.getType());
 
         User updated = userRepository.save(user);
+        autocompleteService.usernameChanged(previousUsername, updated.getUsername());
+        userAvailabilityFilter.userChanged(updated);
+        userIdentityCache.evict(previousEmail, previousFirebaseUid);
+        userIdentityCache.evict(updated.getEmail(), updated.getFirebaseUid());
         return toData(updated);
     }
 
-    @Transactional
+    // Buffered and written in batches by LastLoginBuffer
+    @Transactional(readOnly = true)
     public void updateLastLogin(Integer id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found: " + id));
-        user.setLastLogin(java.time.LocalDateTime.now());
-        userRepository.save(user);
+        if (!userRepository.existsById(id)) {
+            throw new RuntimeException("User not found: " + id);
+        }
+        lastLoginBuffer.record(id, java.time.LocalDateTime.now());
     }
 
     @Transactional
     public void deleteUser(Integer id) {
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found: " + id));
+        userRepository.delete(user);
+        autocompleteService.usernameChanged(user.getUsername(), null);
+        userIdentityCache.evict(user.getEmail(), user.getFirebaseUid());
+    }
+
+    private void userAdded(User saved) {
+        userAvailabilityFilter.userAdded(saved);
+        // Drops any cached "no such user" for the new email and uid
+        userIdentityCache.evict(saved.getEmail(), saved.getFirebaseUid());
     }
 
     private Specification<User> buildSpecification(String email, String type) {
@@ -177,48 +240,6 @@ public class UserService {
     }
 
     private UserData toData(User user) {
-        // Calculate progress and fetch extra info
-        Double progress = 0.0;
-        String degreeName = null;
-        
-        // 1. Get Active Plan
-        List<UserPlan> userPlans = userPlanRepository.findByIdUser(user.getIdUser());
-        UserPlan userPlan = userPlans.isEmpty() ? null : userPlans.get(0);
-        
-        if (userPlan != null) {
-            studyPlanRepository.findById(userPlan.getIdStudyPlan()).ifPresent(plan -> {
-                 // degreeName = plan.getDscName(); // Cannot set local variable
-            });
-            // Re-fetch because lambda limits
-            var planOpt = studyPlanRepository.findById(userPlan.getIdStudyPlan());
-            if(planOpt.isPresent()){
-                degreeName = planOpt.get().getDscName();
-                long totalCourses = courseRepository.countByIdStudyPlan(userPlan.getIdStudyPlan());
-                if (totalCourses > 0) {
-                     long approvedCourses = studentCourseRepository.countApprovedCourses(user.getIdUser(), userPlan.getIdStudyPlan());
-                     progress = (double) approvedCourses / totalCourses;
-                }
-            }
-        }
-
-        // 2. Followers
-        long followers = followerRepository.countByIdUser(user.getIdUser());
-        long following = followerRepository.countByFollowerUserId(user.getIdUser());
-
-        return UserData.builder()
-                .idUser(user.getIdUser())
-                .firebaseUid(user.getFirebaseUid())
-                .username(user.getUsername())
-                .fullName(user.getFullName())
-                .email(user.getEmail())
-                .dateRegister(user.getDateRegister())
-                .datePurchase(user.getDatePurchase())
-                .type(user.getType())
-                .lastLogin(user.getLastLogin())
-                .progress(progress)
-                .degreeName(degreeName)
-                .followersCount(followers)
-                .followingCount(following)
-                .build();
+        return userDataAssembler.toData(user);
     }
 }
\ No newline at end of file
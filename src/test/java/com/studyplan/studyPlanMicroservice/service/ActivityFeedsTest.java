@@ -0,0 +1,65 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.FeedEventData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityFeedsTest {
+
+    @Test
+    void deliversToEveryRecipientNewestFirst() {
+        ActivityFeeds feeds = new ActivityFeeds(10, 10);
+
+        feeds.deliver(new int[]{1, 2}, event(100, 1));
+        feeds.deliver(new int[]{1}, event(101, 2));
+
+        assertEquals(List.of(2, 1), courses(feeds.read(1, null, 10)));
+        assertEquals(List.of(1), courses(feeds.read(2, null, 10)));
+        assertTrue(feeds.read(3, null, 10).isEmpty());
+    }
+
+    @Test
+    void sequencesIncreaseAndPageWithTheBeforeCursor() {
+        ActivityFeeds feeds = new ActivityFeeds(10, 10);
+        for (int course = 1; course <= 5; course++) feeds.deliver(new int[]{1}, event(100, course));
+
+        List<FeedEventData> first = feeds.read(1, null, 2);
+        assertEquals(List.of(5, 4), courses(first));
+        assertTrue(first.get(0).getSequence() > first.get(1).getSequence());
+
+        List<FeedEventData> second = feeds.read(1, first.get(1).getSequence(), 2);
+        assertEquals(List.of(3, 2), courses(second));
+        assertEquals(List.of(1), courses(feeds.read(1, second.get(1).getSequence(), 2)));
+    }
+
+    @Test
+    void fullInboxesDropTheirOldestEvents() {
+        ActivityFeeds feeds = new ActivityFeeds(10, 3);
+        for (int course = 1; course <= 5; course++) feeds.deliver(new int[]{1}, event(100, course));
+
+        assertEquals(List.of(5, 4, 3), courses(feeds.read(1, null, 10)));
+    }
+
+    @Test
+    void inboxesOfUsersNotSeenRecentlyAreEvicted() {
+        ActivityFeeds feeds = new ActivityFeeds(2, 3);
+
+        feeds.deliver(new int[]{1}, event(100, 1));
+        feeds.deliver(new int[]{2}, event(100, 2));
+        feeds.deliver(new int[]{3}, event(100, 3));
+
+        assertTrue(feeds.read(1, null, 10).isEmpty());
+        assertEquals(List.of(3), courses(feeds.read(3, null, 10)));
+    }
+
+    private static FeedEventData event(int userId, int courseId) {
+        return FeedEventData.builder().idUser(userId).idCourse(courseId).build();
+    }
+
+    private static List<Integer> courses(List<FeedEventData> events) {
+        return events.stream().map(FeedEventData::getIdCourse).toList();
+    }
+}
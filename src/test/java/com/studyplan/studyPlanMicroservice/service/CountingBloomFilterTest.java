@@ -0,0 +1,80 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountingBloomFilterTest {
+
+    @Test
+    void addedKeysAreAlwaysReported() {
+        CountingBloomFilter filter = new CountingBloomFilter(1000, 10);
+        for (int i = 0; i < 1000; i++) filter.add("user" + i + "@example.com");
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTheoreticalRate() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 10);
+        for (int i = 0; i < 10_000; i++) filter.add("member-" + i);
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("outsider-" + i)) falsePositives++;
+        }
+        double observed = falsePositives / 100_000.0;
+
+        // 10 bits per entry gives about 0.8%
+        assertTrue(observed < 0.02, "observed rate " + observed);
+        assertEquals(filter.expectedFalsePositiveRate(), observed, 0.01);
+    }
+
+    @Test
+    void removedKeysDisappearWhileOthersRemain() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 10);
+        filter.add("alice");
+        filter.add("bob");
+
+        filter.remove("alice");
+
+        assertFalse(filter.mightContain("alice"));
+        assertTrue(filter.mightContain("bob"));
+        assertEquals(0.0, new CountingBloomFilter(100, 10).expectedFalsePositiveRate(), 0.0);
+    }
+
+    @Test
+    void keysAddedTwiceNeedTwoRemovals() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 10);
+        filter.add("carol");
+        filter.add("carol");
+
+        filter.remove("carol");
+        assertTrue(filter.mightContain("carol"));
+
+        filter.remove("carol");
+        assertFalse(filter.mightContain("carol"));
+    }
+
+    @Test
+    void removingAnAbsentKeyLeavesTheFilterIntact() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 10);
+        filter.add("dave");
+
+        filter.remove("erin");
+
+        assertTrue(filter.mightContain("dave"));
+    }
+
+    @Test
+    void saturatedCountersAreNeverDecremented() {
+        CountingBloomFilter filter = new CountingBloomFilter(1, 1);
+        for (int i = 0; i < 300; i++) filter.add("frank");
+        for (int i = 0; i < 300; i++) filter.remove("frank");
+
+        // The counters stuck at 255, so the key still reads as present rather than risking a false negative
+        assertTrue(filter.mightContain("frank"));
+    }
+}
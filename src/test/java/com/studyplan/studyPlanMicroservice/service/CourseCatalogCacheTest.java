@@ -0,0 +1,61 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.CourseData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseCatalogCacheTest {
+
+    @Test
+    void servesTheCachedListingUntilTheVersionMoves() {
+        CourseCatalogCache cache = new CourseCatalogCache(4);
+        int[] loads = {0};
+
+        List<CourseData> first = cache.get(1, 3, () -> { loads[0]++; return new ArrayList<>(); });
+        assertSame(first, cache.get(1, 3, () -> { loads[0]++; return new ArrayList<>(); }));
+        assertEquals(1, loads[0]);
+
+        cache.get(1, 4, () -> { loads[0]++; return new ArrayList<>(); });
+        assertEquals(2, loads[0]);
+    }
+
+    @Test
+    void etagsDependOnlyOnPlanAndVersion() {
+        // Two instances of the cache stand in for two application instances
+        CourseCatalogCache one = new CourseCatalogCache(4);
+        CourseCatalogCache other = new CourseCatalogCache(4);
+
+        assertEquals(one.etag(1, 7), other.etag(1, 7));
+        assertNotEquals(one.etag(1, 7), one.etag(1, 8));
+        assertNotEquals(one.etag(1, 7), one.etag(2, 7));
+    }
+
+    @Test
+    void aListingCachedOnOneVersionIsNotServedForAnother() {
+        CourseCatalogCache cache = new CourseCatalogCache(4);
+        List<CourseData> older = new ArrayList<>();
+        older.add(new CourseData());
+
+        cache.get(1, 2, () -> older);
+        List<CourseData> newer = cache.get(1, 3, ArrayList::new);
+
+        assertTrue(newer.isEmpty());
+        assertTrue(cache.get(1, 3, () -> older).isEmpty());
+    }
+
+    @Test
+    void plansAreCachedIndependently() {
+        CourseCatalogCache cache = new CourseCatalogCache(4);
+        int[] loads = {0};
+
+        cache.get(1, 1, () -> { loads[0]++; return new ArrayList<>(); });
+        cache.get(2, 1, () -> { loads[0]++; return new ArrayList<>(); });
+        cache.get(1, 1, () -> { loads[0]++; return new ArrayList<>(); });
+
+        assertEquals(2, loads[0]);
+    }
+}
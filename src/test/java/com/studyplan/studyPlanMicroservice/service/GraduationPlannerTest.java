@@ -0,0 +1,117 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static com.studyplan.studyPlanMicroservice.service.RequirementGraphTest.corequisite;
+import static com.studyplan.studyPlanMicroservice.service.RequirementGraphTest.course;
+import static com.studyplan.studyPlanMicroservice.service.RequirementGraphTest.prerequisite;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraduationPlannerTest {
+
+    @Test
+    void prerequisiteChainTakesOneTermPerCourse() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 3), course(2, 3), course(3, 3)),
+                List.of(prerequisite(2, 1), prerequisite(3, 2)));
+
+        GraduationPlanner.Schedule schedule = plan(graph, new BitSet(), 30, 0);
+
+        assertEquals(3, schedule.terms());
+        assertEquals(0, term(graph, schedule, 1));
+        assertEquals(1, term(graph, schedule, 2));
+        assertEquals(2, term(graph, schedule, 3));
+        assertEquals(0, schedule.unschedulable().length);
+    }
+
+    @Test
+    void creditCapSpreadsIndependentCoursesOverTerms() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 4), course(2, 4), course(3, 4), course(4, 4)),
+                List.of());
+
+        GraduationPlanner.Schedule schedule = plan(graph, new BitSet(), 8, 0);
+
+        assertEquals(2, schedule.terms());
+        int[] perTerm = new int[2];
+        for (int id = 1; id <= 4; id++) perTerm[term(graph, schedule, id)]++;
+        assertArrayEquals(new int[]{2, 2}, perTerm);
+    }
+
+    @Test
+    void criticalPathIsScheduledBeforeLooseCourses() {
+        // 1 -> 2 -> 3 is the long chain; 4 and 5 stand alone. Only one course fits per term
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 5), course(2, 5), course(3, 5), course(4, 5), course(5, 5)),
+                List.of(prerequisite(2, 1), prerequisite(3, 2)));
+
+        GraduationPlanner.Schedule schedule = plan(graph, new BitSet(), 5, 0);
+
+        assertEquals(0, term(graph, schedule, 1));
+        assertEquals(5, schedule.terms());
+    }
+
+    @Test
+    void completedCoursesAreSkippedAndSatisfyPrerequisites() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 3), course(2, 3)),
+                List.of(prerequisite(2, 1)));
+        BitSet completed = new BitSet();
+        completed.set(graph.indexOf(1));
+
+        GraduationPlanner.Schedule schedule = plan(graph, completed, 30, 0);
+
+        assertEquals(1, schedule.terms());
+        assertEquals(-1, term(graph, schedule, 1));
+        assertEquals(0, term(graph, schedule, 2));
+    }
+
+    @Test
+    void corequisitesAreTakenInTheSameTerm() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 3), course(2, 3)),
+                List.of(corequisite(2, 1)));
+
+        GraduationPlanner.Schedule schedule = plan(graph, new BitSet(), 6, 0);
+
+        assertEquals(1, schedule.terms());
+        assertEquals(term(graph, schedule, 1), term(graph, schedule, 2));
+    }
+
+    @Test
+    void cyclesAndMissingExternalPrerequisitesAreUnschedulable() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 3), course(2, 3), course(3, 3), course(4, 3)),
+                List.of(prerequisite(1, 2), prerequisite(2, 1), prerequisite(3, 99)));
+
+        GraduationPlanner.Schedule schedule = plan(graph, new BitSet(), 30, 0);
+
+        assertEquals(3, schedule.unschedulable().length);
+        assertEquals(0, term(graph, schedule, 4));
+        assertEquals(1, schedule.terms());
+    }
+
+    @Test
+    void improvementRoundsNeverMakeTheScheduleWorse() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 4), course(2, 4), course(3, 4), course(4, 4), course(5, 4), course(6, 4)),
+                List.of(prerequisite(2, 1), prerequisite(3, 2), prerequisite(5, 4)));
+
+        GraduationPlanner.Schedule base = plan(graph, new BitSet(), 8, 0);
+        GraduationPlanner.Schedule improved = plan(graph, new BitSet(), 8, 16);
+
+        assertTrue(improved.terms() <= base.terms());
+        assertEquals(0, improved.unschedulable().length);
+    }
+
+    private static GraduationPlanner.Schedule plan(RequirementGraph graph, BitSet completed, int maxCredits, int rounds) {
+        return GraduationPlanner.plan(graph, completed, maxCredits, new int[graph.size()], rounds);
+    }
+
+    private static int term(RequirementGraph graph, GraduationPlanner.Schedule schedule, int courseId) {
+        return schedule.termByNode()[graph.indexOf(courseId)];
+    }
+}
@@ -0,0 +1,63 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntSetTest {
+
+    @Test
+    void ofSortsAndDropsDuplicates() {
+        IntSet set = IntSet.of(List.of(5, 1, 3, 1, 5));
+
+        assertArrayEquals(new int[]{1, 3, 5}, set.toArray());
+        assertEquals(3, set.size());
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(2));
+    }
+
+    @Test
+    void withAndWithoutReturnCopiesAndKeepOrder() {
+        IntSet set = IntSet.of(List.of(2, 4));
+
+        IntSet added = set.with(3).with(1).with(9);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 9}, added.toArray());
+        assertArrayEquals(new int[]{2, 4}, set.toArray());
+
+        assertArrayEquals(new int[]{1, 3, 4, 9}, added.without(2).toArray());
+        assertSame(added, added.with(4));
+        assertSame(added, added.without(7));
+        assertEquals(0, IntSet.EMPTY.with(1).without(1).size());
+    }
+
+    @Test
+    void intersectKeepsCommonValues() {
+        IntSet followers = IntSet.of(List.of(1, 2, 3, 7, 9));
+        IntSet following = IntSet.of(List.of(2, 3, 4, 9, 10));
+
+        assertArrayEquals(new int[]{2, 3, 9}, followers.intersect(following).toArray());
+        assertEquals(0, followers.intersect(IntSet.EMPTY).size());
+    }
+
+    @Test
+    void sliceIsClampedToTheSet() {
+        IntSet set = IntSet.of(List.of(10, 20, 30, 40, 50));
+
+        assertArrayEquals(new int[]{10, 20}, set.slice(0, 2));
+        assertArrayEquals(new int[]{50}, set.slice(4, 6));
+        assertArrayEquals(new int[0], set.slice(5, 10));
+        assertArrayEquals(new int[0], set.slice(8, 10));
+        assertArrayEquals(new int[]{10}, set.slice(-1, 1));
+    }
+
+    @Test
+    void toArrayDoesNotExposeTheBackingArray() {
+        IntSet set = IntSet.of(List.of(1, 2));
+
+        set.toArray()[0] = 99;
+
+        assertTrue(set.contains(1));
+    }
+}
@@ -0,0 +1,79 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void matchesIgnoringCaseAndAccents() {
+        index.put(1, document("Ingeniería de Software", 1));
+
+        assertEquals(List.of(1), ids(index.search("INGENIERIA", 10)));
+        assertEquals(List.of(1), ids(index.search("ingeniería", 10)));
+    }
+
+    @Test
+    void everyQueryTokenMustMatchExactlyOrAsAPrefix() {
+        index.put(1, document("Cálculo Diferencial", 1));
+        index.put(2, document("Cálculo Integral", 1));
+
+        assertEquals(List.of(1, 2), ids(index.search("calc", 10)));
+        assertEquals(List.of(2), ids(index.search("calculo integ", 10)));
+        assertEquals(List.of(), ids(index.search("calculo vectorial", 10)));
+    }
+
+    @Test
+    void exactMatchesAndHeavierFieldsRankFirst() {
+        index.put(1, document("Programación", 1));
+        index.put(2, document("Program", 1));
+        Map<String, Integer> weighted = new HashMap<>();
+        InvertedIndex.addTokens(weighted, "Programación Avanzada", 3);
+        index.put(3, weighted);
+
+        List<InvertedIndex.Hit> hits = index.search("program", 10);
+
+        // 3: prefix with weight 3; 2: exact with weight 1 (doubled); 1: prefix with weight 1
+        assertEquals(List.of(3, 2, 1), ids(hits));
+        assertEquals(3, hits.get(0).score());
+        assertEquals(2, hits.get(1).score());
+    }
+
+    @Test
+    void replacingAndRemovingADocumentUpdatesItsPostings() {
+        index.put(1, document("Física I", 1));
+        index.put(1, document("Química I", 1));
+
+        assertEquals(List.of(), ids(index.search("fisica", 10)));
+        assertEquals(List.of(1), ids(index.search("quimica", 10)));
+
+        index.remove(1);
+        assertEquals(List.of(), ids(index.search("quimica", 10)));
+    }
+
+    @Test
+    void limitAndBlankQueries() {
+        for (int id = 1; id <= 5; id++) index.put(id, document("Seminario " + id, 1));
+
+        assertEquals(List.of(1, 2, 3), ids(index.search("seminario", 3)));
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertTrue(index.search("seminario", 0).isEmpty());
+    }
+
+    private static Map<String, Integer> document(String text, int weight) {
+        Map<String, Integer> tokens = new HashMap<>();
+        InvertedIndex.addTokens(tokens, text, weight);
+        return tokens;
+    }
+
+    private static List<Integer> ids(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::id).toList();
+    }
+}
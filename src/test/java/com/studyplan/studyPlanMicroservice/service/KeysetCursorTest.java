@@ -0,0 +1,48 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void cursorRoundTripsIdAndSortValue() {
+        String cursor = KeysetCursor.encode(42, "Universidad: Sede Norte", "dscName");
+
+        Map<String, Object> keys = KeysetCursor.decodeKeys(cursor, "dscName", "idUniversity");
+
+        assertEquals("Universidad: Sede Norte", keys.get("dscName"));
+        assertEquals(42, keys.get("idUniversity"));
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = KeysetCursor.encode(7, "ÁÉ?/+&=", "dscName");
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertEquals("ÁÉ?/+&=", KeysetCursor.decodeKeys(cursor, "dscName", "id").get("dscName"));
+    }
+
+    @Test
+    void anEmptySortValueIsKeptAsEmpty() {
+        String cursor = KeysetCursor.encode(3, "", "email");
+
+        assertEquals("", KeysetCursor.decodeKeys(cursor, "email", "idUser").get("email"));
+    }
+
+    @Test
+    void aNullSortValueIsRejectedInsteadOfEncodedAsEmpty() {
+        assertThrows(IllegalStateException.class, () -> KeysetCursor.encode(3, null, "email"));
+    }
+
+    @Test
+    void tamperedCursorsAreRejected() {
+        assertThrows(RuntimeException.class, () -> KeysetCursor.decodeKeys("not base64!", "email", "idUser"));
+        String noSeparator = Base64.getUrlEncoder().encodeToString("abc".getBytes());
+        assertThrows(RuntimeException.class, () -> KeysetCursor.decodeKeys(noSeparator, "email", "idUser"));
+    }
+}
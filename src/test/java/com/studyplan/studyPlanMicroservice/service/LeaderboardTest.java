@@ -0,0 +1,103 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    private final Leaderboard board = new Leaderboard();
+
+    @Test
+    void tiesShareACompetitionRank() {
+        board.set(1, 30);
+        board.set(2, 20);
+        board.set(3, 20);
+        board.set(4, 10);
+
+        assertEquals(List.of(
+                new Leaderboard.Entry(1, 30, 1),
+                new Leaderboard.Entry(2, 20, 2),
+                new Leaderboard.Entry(3, 20, 2),
+                new Leaderboard.Entry(4, 10, 4)), board.page(0, 10));
+        assertEquals(new Leaderboard.Entry(3, 20, 2), board.entry(3));
+        assertNull(board.entry(5));
+    }
+
+    @Test
+    void pagesStartInsideATieGroup() {
+        for (int user = 1; user <= 5; user++) board.set(user, 7);
+        board.set(6, 9);
+
+        // Offset 3 lands on the third user of the tie at 7
+        assertEquals(List.of(new Leaderboard.Entry(3, 7, 2), new Leaderboard.Entry(4, 7, 2)), board.page(3, 2));
+        assertEquals(List.of(new Leaderboard.Entry(5, 7, 2)), board.page(5, 2));
+        assertTrue(board.page(6, 2).isEmpty());
+        assertTrue(board.page(0, 0).isEmpty());
+    }
+
+    @Test
+    void updatesAndRemovalsMoveUsers() {
+        board.set(1, 5);
+        board.set(2, 10);
+        board.set(1, 15);
+        board.set(3, -4);
+
+        assertEquals(new Leaderboard.Entry(1, 15, 1), board.entry(1));
+        assertEquals(new Leaderboard.Entry(3, 0, 3), board.entry(3));
+
+        board.remove(1);
+        board.remove(9);
+        assertEquals(2, board.size());
+        assertNull(board.score(1));
+        assertEquals(new Leaderboard.Entry(2, 10, 1), board.entry(2));
+    }
+
+    @Test
+    void growingPastTheInitialCapacityKeepsCounts() {
+        board.set(1, 3);
+        board.set(2, 64);
+        board.set(3, 1_000);
+        board.set(2, 100_000);
+
+        assertEquals(List.of(
+                new Leaderboard.Entry(2, 100_000, 1),
+                new Leaderboard.Entry(3, 1_000, 2),
+                new Leaderboard.Entry(1, 3, 3)), board.page(0, 10));
+        assertEquals(List.of(new Leaderboard.Entry(1, 3, 3)), board.page(2, 1));
+    }
+
+    @Test
+    void matchesASortedListUnderRandomUpdates() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 2_000; step++) {
+            int user = random.nextInt(200);
+            if (random.nextInt(10) == 0) {
+                board.remove(user);
+                expected.remove(user);
+            } else {
+                int score = random.nextInt(random.nextBoolean() ? 50 : 5_000);
+                board.set(user, score);
+                expected.put(user, score);
+            }
+        }
+
+        List<Map.Entry<Integer, Integer>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Map.Entry.<Integer, Integer>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()));
+        assertEquals(sorted.size(), board.size());
+        for (int offset = 0; offset < sorted.size(); offset += 7) {
+            Leaderboard.Entry entry = board.page(offset, 1).get(0);
+            assertEquals(sorted.get(offset).getKey(), entry.userId(), "offset " + offset);
+            long above = sorted.stream().filter(e -> e.getValue() > entry.score()).count();
+            assertEquals(above + 1, entry.rank());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryOnceFull() {
+        LruCache<Integer, String> cache = new LruCache<>(2);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.get(1);
+        cache.put(3, "c");
+
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("c", cache.get(3));
+    }
+
+    @Test
+    void computeIfAbsentLoadsOnceAndCountsAsAnAccess() {
+        LruCache<Integer, String> cache = new LruCache<>(2);
+        int[] loads = {0};
+
+        assertEquals("1", cache.computeIfAbsent(1, key -> { loads[0]++; return key.toString(); }));
+        assertEquals("1", cache.computeIfAbsent(1, key -> { loads[0]++; return "other"; }));
+        cache.put(2, "2");
+        cache.computeIfAbsent(1, key -> "unused");
+        cache.put(3, "3");
+
+        assertEquals(1, loads[0]);
+        assertEquals("1", cache.get(1));
+        assertNull(cache.get(2));
+    }
+
+    @Test
+    void removeAndClearDropEntries() {
+        LruCache<Integer, String> cache = new LruCache<>(4);
+        cache.put(1, "a");
+        cache.put(2, "b");
+
+        cache.remove(1);
+        assertNull(cache.get(1));
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
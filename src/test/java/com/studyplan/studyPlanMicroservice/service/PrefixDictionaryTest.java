@@ -0,0 +1,72 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixDictionaryTest {
+
+    private final PrefixDictionary dictionary = new PrefixDictionary();
+
+    @Test
+    void completesFromAnyWordIgnoringCaseAndAccents() {
+        dictionary.addAll(List.of("Ingeniería en Sistemas", "Medicina"));
+
+        assertEquals(List.of("Ingeniería en Sistemas"), dictionary.complete("INGE", 10));
+        assertEquals(List.of("Ingeniería en Sistemas"), dictionary.complete("sist", 10));
+        assertEquals(List.of("Medicina"), dictionary.complete("médi", 10));
+        assertEquals(List.of(), dictionary.complete("derecho", 10));
+    }
+
+    @Test
+    void multiWordQueriesMatchConsecutiveWords() {
+        dictionary.addAll(List.of("Universidad Nacional de Colombia", "Universidad de los Andes", "Nacional Universidad"));
+
+        assertEquals(List.of("Universidad Nacional de Colombia"), dictionary.complete("univ nac", 10));
+        assertEquals(List.of("Nacional Universidad"), dictionary.complete("nac univ", 10));
+    }
+
+    @Test
+    void resultsAreDistinctSortedAndLimited() {
+        dictionary.addAll(List.of("Contaduría", "Comunicación", "Computación", "Computación Gráfica"));
+
+        assertEquals(List.of("Computación", "Computación Gráfica"), dictionary.complete("comp", 10));
+        assertEquals(List.of("Computación"), dictionary.complete("comp", 1));
+        assertEquals(List.of(), dictionary.complete("comp", 0));
+        assertEquals(List.of(), dictionary.complete(" ", 10));
+    }
+
+    @Test
+    void sharedValuesStayUntilTheLastReferenceIsRemoved() {
+        dictionary.add("Derecho");
+        dictionary.add("Derecho");
+
+        dictionary.remove("Derecho");
+        assertEquals(List.of("Derecho"), dictionary.complete("der", 10));
+
+        dictionary.remove("Derecho");
+        assertEquals(List.of(), dictionary.complete("der", 10));
+    }
+
+    @Test
+    void replaceSwapsTheValue() {
+        dictionary.add("alice");
+
+        dictionary.replace("alice", "alicia");
+
+        assertEquals(List.of("alicia"), dictionary.complete("ali", 10));
+        dictionary.replace("alicia", null);
+        assertEquals(List.of(), dictionary.complete("ali", 10));
+    }
+
+    @Test
+    void blankAndNullValuesAreIgnored() {
+        dictionary.addAll(Arrays.asList("", "  ", null, "Arquitectura"));
+
+        assertEquals(List.of("Arquitectura"), dictionary.complete("a", 10));
+        dictionary.remove(null);
+    }
+}
@@ -0,0 +1,130 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_AVAILABLE;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_IN_PROGRESS;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_PASSED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ProgressServiceTest {
+
+    private final StudyPlanTables tables = new StudyPlanTables();
+    private final ProgressService progressService =
+            new ProgressService(tables.progressRepository(), mock(LeaderboardService.class));
+
+    @BeforeEach
+    void setUp() {
+        // Plan 1: courses 10, 11, 12; plan 2: course 20. Users 1 and 2 follow plan 1, user 1 also plan 2
+        tables.addCourse(10, 1, 4);
+        tables.addCourse(11, 1, 3);
+        tables.addCourse(12, 1, 5);
+        tables.addCourse(20, 2, 6);
+        tables.joinPlan(1, 1);
+        tables.joinPlan(2, 1);
+        tables.joinPlan(1, 2);
+        for (int course : List.of(10, 11, 12)) {
+            tables.setStatus(1, course, STATUS_AVAILABLE);
+            tables.setStatus(2, course, STATUS_AVAILABLE);
+        }
+        tables.setStatus(1, 20, STATUS_AVAILABLE);
+        progressService.rebuildAll();
+    }
+
+    @Test
+    void statusChangesKeepCountersEqualToARebuild() {
+        changeStatus(1, 10, STATUS_PASSED);
+        changeStatus(2, 10, STATUS_PASSED);
+        changeStatus(2, 11, STATUS_PASSED);
+        changeStatus(1, 20, STATUS_PASSED);
+        changeStatus(2, 11, STATUS_IN_PROGRESS);
+        changeStatus(1, 12, STATUS_IN_PROGRESS);
+
+        assertEquals(tables.rebuiltProgress(), tables.progress);
+        assertEquals(List.of(1, 3, 4), tables.progress.get(List.of(1, 1)));
+    }
+
+    @Test
+    void addingAndRemovingCoursesKeepsCountersEqualToARebuild() {
+        changeStatus(1, 10, STATUS_PASSED);
+        changeStatus(2, 11, STATUS_PASSED);
+
+        tables.addCourse(13, 1, 6);
+        progressService.onCoursesAdded(1, 1);
+        changeStatus(1, 13, STATUS_PASSED);
+        removeCourse(10);
+        removeCourse(12);
+
+        assertEquals(tables.rebuiltProgress(), tables.progress);
+    }
+
+    @Test
+    void aUserWithoutAProgressRowGetsItRebuiltOnTheFirstPass() {
+        tables.joinPlan(3, 1);
+        tables.setStatus(3, 11, STATUS_AVAILABLE);
+
+        changeStatus(3, 11, STATUS_PASSED);
+
+        assertEquals(tables.rebuiltProgress(), tables.progress);
+        assertEquals(List.of(1, 3, 3), tables.progress.get(List.of(3, 1)));
+    }
+
+    @Test
+    void creditChangesAndPlanMovesRebuildTheAffectedPlans() {
+        changeStatus(1, 10, STATUS_PASSED);
+        changeStatus(1, 11, STATUS_PASSED);
+        changeStatus(2, 10, STATUS_PASSED);
+
+        // As CourseService.updateCourse does: the row changes first, then every affected plan is rebuilt
+        tables.courses.get(10).setNumCredits(7);
+        progressService.rebuildPlan(1);
+        tables.courses.get(11).setIdStudyPlan(2);
+        progressService.rebuildPlan(1);
+        progressService.rebuildPlan(2);
+        changeStatus(1, 11, STATUS_IN_PROGRESS);
+
+        assertEquals(tables.rebuiltProgress(), tables.progress);
+    }
+
+    @Test
+    void randomSequencesOfChangesNeverDriftFromARebuild() {
+        Random random = new Random(7);
+        int nextCourseId = 100;
+        for (int step = 0; step < 500; step++) {
+            List<Integer> courseIds = new ArrayList<>(tables.courses.keySet());
+            int action = random.nextInt(10);
+            if (action < 7) {
+                int userId = 1 + random.nextInt(2);
+                int courseId = courseIds.get(random.nextInt(courseIds.size()));
+                changeStatus(userId, courseId, 1 + random.nextInt(4));
+            } else if (action < 9 || courseIds.size() < 2) {
+                int planId = 1 + random.nextInt(2);
+                tables.addCourse(nextCourseId++, planId, 1 + random.nextInt(6));
+                progressService.onCoursesAdded(planId, 1);
+            } else {
+                removeCourse(courseIds.get(random.nextInt(courseIds.size())));
+            }
+            assertEquals(tables.rebuiltProgress(), tables.progress, "after step " + step);
+        }
+    }
+
+    private void changeStatus(int userId, int courseId, int status) {
+        Integer previous = tables.status(userId, courseId);
+        tables.setStatus(userId, courseId, status);
+        progressService.onStatusChanged(userId, tables.courses.get(courseId), previous, status);
+    }
+
+    // Same order as CourseService.deleteCourse: progress first, while the course row still exists
+    private void removeCourse(int courseId) {
+        Course course = tables.courses.get(courseId);
+        progressService.onCourseRemoved(course);
+        tables.courses.remove(courseId);
+    }
+}
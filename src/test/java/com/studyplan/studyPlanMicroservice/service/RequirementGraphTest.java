@@ -0,0 +1,106 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import com.studyplan.studyPlanMicroservice.domain.Requirement;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequirementGraphTest {
+
+    static Course course(int id, int credits) {
+        return Course.builder().idCourse(id).idStudyPlan(1).numCredits(credits).build();
+    }
+
+    static Requirement prerequisite(int course, int required) {
+        return Requirement.builder().idCourse(course).idCourseRequirement(required)
+                .typeRequirement(RequirementGraph.PREREQUISITE).build();
+    }
+
+    static Requirement corequisite(int course, int required) {
+        return Requirement.builder().idCourse(course).idCourseRequirement(required)
+                .typeRequirement(RequirementGraph.COREQUISITE).build();
+    }
+
+    @Test
+    void topologicalOrderPlacesPrerequisitesFirst() {
+        // 10 -> 20 -> 40, 10 -> 30 -> 40
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(40, 3), course(30, 3), course(20, 3), course(10, 3)),
+                List.of(prerequisite(20, 10), prerequisite(30, 10), prerequisite(40, 20), prerequisite(40, 30)));
+
+        int[] order = graph.topologicalOrder();
+        assertEquals(4, order.length);
+        assertTrue(position(graph, order, 10) < position(graph, order, 20));
+        assertTrue(position(graph, order, 10) < position(graph, order, 30));
+        assertTrue(position(graph, order, 20) < position(graph, order, 40));
+        assertTrue(position(graph, order, 30) < position(graph, order, 40));
+    }
+
+    @Test
+    void cyclicNodesAreStillOrdered() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 3), course(2, 3), course(3, 3)),
+                List.of(prerequisite(2, 3), prerequisite(3, 2)));
+
+        int[] order = graph.topologicalOrder();
+        assertEquals(3, order.length);
+        assertEquals(graph.indexOf(1), order[0]);
+    }
+
+    @Test
+    void dependentClosureFollowsPrerequisiteEdgesOnly() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 3), course(2, 3), course(3, 3), course(4, 3)),
+                List.of(prerequisite(2, 1), prerequisite(3, 2), corequisite(4, 1)));
+
+        BitSet seeds = new BitSet();
+        seeds.set(graph.indexOf(1));
+        BitSet closure = graph.dependentClosure(seeds);
+
+        assertTrue(closure.get(graph.indexOf(1)));
+        assertTrue(closure.get(graph.indexOf(2)));
+        assertTrue(closure.get(graph.indexOf(3)));
+        assertFalse(closure.get(graph.indexOf(4)));
+        assertEquals(1, seeds.cardinality(), "seeds must not be modified");
+    }
+
+    @Test
+    void externalPrerequisitesBecomeNonPlanNodes() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 4)),
+                List.of(prerequisite(1, 99)));
+
+        assertEquals(2, graph.size());
+        int external = graph.indexOf(99);
+        assertTrue(external >= 0);
+        assertFalse(graph.isPlanCourse(external));
+        assertTrue(graph.isPlanCourse(graph.indexOf(1)));
+        assertEquals(0, graph.credits(external));
+        assertArrayEquals(new int[]{external}, graph.prerequisites(graph.indexOf(1)));
+    }
+
+    @Test
+    void ignoresSelfReferencesAndRequirementsOfOtherPlans() {
+        RequirementGraph graph = RequirementGraph.build(1,
+                List.of(course(1, 3), course(2, 3)),
+                List.of(prerequisite(1, 1), prerequisite(50, 2)));
+
+        assertEquals(2, graph.size());
+        assertEquals(0, graph.prerequisites(graph.indexOf(1)).length);
+        assertEquals(0, graph.dependents(graph.indexOf(2)).length);
+        assertEquals(-1, graph.indexOf(50));
+        assertEquals(-1, graph.indexOf(null));
+    }
+
+    private static int position(RequirementGraph graph, int[] order, int courseId) {
+        int node = graph.indexOf(courseId);
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] == node) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,110 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.StudentCourseData;
+import com.studyplan.studyPlanMicroservice.domain.Status;
+import com.studyplan.studyPlanMicroservice.jpa.CourseRepository;
+import com.studyplan.studyPlanMicroservice.jpa.RequirementRepository;
+import com.studyplan.studyPlanMicroservice.jpa.StatusRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_AVAILABLE;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_IN_PROGRESS;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_LOCKED;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_PASSED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentCourseServiceTest {
+
+    private static final int USER = 1;
+
+    @Test
+    void aBatchAcrossPlansMatchesApplyingItsRowsOneAtATime() {
+        List<StudentCourseData> updates = List.of(
+                update(1, STATUS_PASSED),       // unlocks 2 in plan 1 and 20 in plan 2
+                update(20, STATUS_IN_PROGRESS),
+                update(5, STATUS_AVAILABLE),    // un-passed: re-locks 6
+                update(4, STATUS_IN_PROGRESS),
+                update(22, STATUS_PASSED));
+
+        StudyPlanTables batched = twoPlans();
+        service(batched).updateStudentCoursesBatch(USER, updates);
+
+        StudyPlanTables oneByOne = twoPlans();
+        StudentCourseService single = service(oneByOne);
+        updates.forEach(single::createOrUpdateStudentCourse);
+
+        assertEquals(oneByOne.statuses, batched.statuses);
+        assertEquals(oneByOne.timesTaken, batched.timesTaken);
+        assertEquals(oneByOne.progress, batched.progress);
+        assertEquals(batched.rebuiltProgress(), batched.progress);
+
+        assertEquals(STATUS_AVAILABLE, batched.status(USER, 2));
+        assertEquals(STATUS_LOCKED, batched.status(USER, 3));
+        assertEquals(STATUS_LOCKED, batched.status(USER, 6));
+        assertEquals(STATUS_IN_PROGRESS, batched.status(USER, 20));
+        assertEquals(STATUS_LOCKED, batched.status(USER, 21));
+        assertEquals(List.of(1, 6, 4), batched.progress.get(List.of(USER, 1)));
+        assertEquals(List.of(1, 3, 6), batched.progress.get(List.of(USER, 2)));
+    }
+
+    // Plan 1: 1 -> 2 -> 3, 4, and 5 (passed) -> 6. Plan 2: 1 -> 20 -> 21 across plans, and 22
+    private static StudyPlanTables twoPlans() {
+        StudyPlanTables tables = new StudyPlanTables();
+        tables.addCourse(1, 1, 4);
+        tables.addCourse(2, 1, 3);
+        tables.addCourse(3, 1, 5);
+        tables.addCourse(4, 1, 2);
+        tables.addCourse(5, 1, 7);
+        tables.addCourse(6, 1, 1);
+        tables.addCourse(20, 2, 8);
+        tables.addCourse(21, 2, 9);
+        tables.addCourse(22, 2, 6);
+        tables.addPrerequisite(2, 1);
+        tables.addPrerequisite(3, 2);
+        tables.addPrerequisite(6, 5);
+        tables.addPrerequisite(20, 1);
+        tables.addPrerequisite(21, 20);
+        tables.joinPlan(USER, 1);
+        tables.joinPlan(USER, 2);
+        Map.of(1, STATUS_AVAILABLE, 2, STATUS_LOCKED, 3, STATUS_LOCKED, 4, STATUS_AVAILABLE, 5, STATUS_PASSED,
+                6, STATUS_AVAILABLE, 20, STATUS_LOCKED, 21, STATUS_LOCKED, 22, STATUS_AVAILABLE)
+                .forEach((course, status) -> tables.setStatus(USER, course, status));
+        tables.progressRepository().rebuildAll();
+        return tables;
+    }
+
+    private static StudentCourseService service(StudyPlanTables tables) {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.existsById(any())).thenReturn(true);
+        StatusRepository statusRepository = mock(StatusRepository.class);
+        when(statusRepository.getReferenceById(any())).thenAnswer(call ->
+                Status.builder().idStatus(call.getArgument(0)).build());
+        ReferenceDataCache referenceDataCache = mock(ReferenceDataCache.class);
+        when(referenceDataCache.statusExists(any())).thenReturn(true);
+
+        CourseRepository courseRepository = tables.courseRepository();
+        RequirementRepository requirementRepository = tables.requirementRepository();
+        return new StudentCourseService(
+                tables.studentCourseRepository(),
+                userRepository,
+                courseRepository,
+                statusRepository,
+                requirementRepository,
+                new RequirementGraphCache(courseRepository, requirementRepository),
+                new UnlockEngine(),
+                new ProgressService(tables.progressRepository(), mock(LeaderboardService.class)),
+                mock(FollowGraphService.class),
+                referenceDataCache);
+    }
+
+    private static StudentCourseData update(int courseId, int status) {
+        return StudentCourseData.builder().idUser(USER).idCourse(courseId).idStatus(status).build();
+    }
+}
@@ -0,0 +1,255 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.StudentCourseData;
+import com.studyplan.studyPlanMicroservice.data.StudentCourseStatusRow;
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import com.studyplan.studyPlanMicroservice.domain.Requirement;
+import com.studyplan.studyPlanMicroservice.domain.Status;
+import com.studyplan.studyPlanMicroservice.domain.StudentCourse;
+import com.studyplan.studyPlanMicroservice.domain.User;
+import com.studyplan.studyPlanMicroservice.jpa.CourseRepository;
+import com.studyplan.studyPlanMicroservice.jpa.RequirementRepository;
+import com.studyplan.studyPlanMicroservice.jpa.StudentCourseRepository;
+import com.studyplan.studyPlanMicroservice.jpa.UserPlanProgressRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_PASSED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// In-memory copy of course, requirement, student_courses, user_plan and user_plan_progress. The repository mocks
+// answer like their native statements, so incremental updates can be compared with a fresh rebuild.
+class StudyPlanTables {
+
+    final Map<Integer, Course> courses = new HashMap<>();
+    final List<Requirement> requirements = new ArrayList<>();
+    final Set<List<Integer>> userPlans = new HashSet<>();
+    // (user, course) -> id_status
+    final Map<List<Integer>, Integer> statuses = new HashMap<>();
+    // (user, course) -> id_student_course and num_times_taken
+    final Map<List<Integer>, Integer> studentCourseIds = new HashMap<>();
+    final Map<List<Integer>, Integer> timesTaken = new HashMap<>();
+    // (user, plan) -> (approved_courses, total_courses, approved_credits)
+    final Map<List<Integer>, List<Integer>> progress = new TreeMap<>(StudyPlanTables::compareKeys);
+
+    Course addCourse(int id, int planId, int credits) {
+        Course course = Course.builder().idCourse(id).idStudyPlan(planId).numCredits(credits).build();
+        courses.put(id, course);
+        return course;
+    }
+
+    void addPrerequisite(int courseId, int requiredCourseId) {
+        requirements.add(Requirement.builder().idCourse(courseId).idCourseRequirement(requiredCourseId)
+                .typeRequirement(RequirementGraph.PREREQUISITE).build());
+    }
+
+    void joinPlan(int userId, int planId) {
+        userPlans.add(List.of(userId, planId));
+    }
+
+    Integer status(int userId, int courseId) {
+        return statuses.get(List.of(userId, courseId));
+    }
+
+    void setStatus(int userId, int courseId, int status) {
+        List<Integer> key = List.of(userId, courseId);
+        statuses.put(key, status);
+        studentCourseIds.putIfAbsent(key, studentCourseIds.size() + 1);
+        timesTaken.putIfAbsent(key, 0);
+    }
+
+    // What UserPlanProgressRepository.REBUILD computes for every user_plan row
+    Map<List<Integer>, List<Integer>> rebuiltProgress() {
+        Map<List<Integer>, List<Integer>> rebuilt = new TreeMap<>(StudyPlanTables::compareKeys);
+        for (List<Integer> userPlan : userPlans) {
+            rebuilt.put(userPlan, rebuilt(userPlan.get(0), userPlan.get(1)));
+        }
+        return rebuilt;
+    }
+
+    UserPlanProgressRepository progressRepository() {
+        UserPlanProgressRepository repository = mock(UserPlanProgressRepository.class);
+        when(repository.adjustApproved(any(), any(), anyInt(), anyInt())).thenAnswer(call -> adjustApproved(
+                call.getArgument(0), call.getArgument(1), call.getArgument(2), call.getArgument(3)));
+        when(repository.removeApprovedCourse(any(), any(), anyInt())).thenAnswer(call -> removeApprovedCourse(
+                call.getArgument(0), call.getArgument(1), call.getArgument(2)));
+        when(repository.adjustTotalCourses(any(), anyInt())).thenAnswer(call -> adjustTotalCourses(
+                call.getArgument(0), call.getArgument(1)));
+        when(repository.rebuild(any(), any())).thenAnswer(call -> rebuildWhere(
+                userPlan -> userPlan.equals(List.of(call.getArgument(0), call.getArgument(1)))));
+        when(repository.rebuildPlan(any())).thenAnswer(call -> rebuildWhere(
+                userPlan -> userPlan.get(1).equals(call.getArgument(0))));
+        when(repository.rebuildAll()).thenAnswer(call -> rebuildWhere(userPlan -> true));
+        when(repository.rebuildMissing()).thenAnswer(call -> rebuildWhere(userPlan -> !progress.containsKey(userPlan)));
+        return repository;
+    }
+
+    CourseRepository courseRepository() {
+        CourseRepository repository = mock(CourseRepository.class);
+        when(repository.findById(any())).thenAnswer(call -> Optional.ofNullable(courses.get(call.<Integer>getArgument(0))));
+        when(repository.findAllById(any())).thenAnswer(call -> {
+            List<Course> found = new ArrayList<>();
+            for (Integer id : call.<Iterable<Integer>>getArgument(0)) {
+                if (courses.containsKey(id)) found.add(courses.get(id));
+            }
+            return found;
+        });
+        when(repository.findByIdStudyPlan(any())).thenAnswer(call -> courses.values().stream()
+                .filter(course -> course.getIdStudyPlan().equals(call.getArgument(0))).toList());
+        return repository;
+    }
+
+    RequirementRepository requirementRepository() {
+        RequirementRepository repository = mock(RequirementRepository.class);
+        when(repository.findByStudyPlan(any())).thenAnswer(call -> requirements.stream()
+                .filter(requirement -> courses.get(requirement.getIdCourse()).getIdStudyPlan().equals(call.getArgument(0)))
+                .toList());
+        when(repository.findDependentPlanIds(any())).thenAnswer(call -> {
+            Collection<Integer> courseIds = call.getArgument(0);
+            return requirements.stream()
+                    .filter(requirement -> courseIds.contains(requirement.getIdCourseRequirement()))
+                    .map(requirement -> courses.get(requirement.getIdCourse()).getIdStudyPlan())
+                    .distinct().toList();
+        });
+        return repository;
+    }
+
+    StudentCourseRepository studentCourseRepository() {
+        StudentCourseRepository repository = mock(StudentCourseRepository.class);
+        when(repository.findByUser_IdUserAndCourse_IdCourse(any(), any())).thenAnswer(call -> {
+            List<Integer> key = List.of(call.getArgument(0), call.getArgument(1));
+            return statuses.containsKey(key) ? Optional.of(studentCourse(key)) : Optional.empty();
+        });
+        when(repository.save(any(StudentCourse.class))).thenAnswer(call -> {
+            StudentCourse saved = call.getArgument(0);
+            List<Integer> key = List.of(saved.getUser().getIdUser(), saved.getCourse().getIdCourse());
+            setStatus(key.get(0), key.get(1), saved.getStatus().getIdStatus());
+            timesTaken.put(key, saved.getNumTimesTaken());
+            saved.setIdStudentCourse(studentCourseIds.get(key));
+            return saved;
+        });
+        when(repository.findDataByUser(any())).thenAnswer(call -> keysOf(call.getArgument(0)).stream()
+                .map(key -> StudentCourseData.builder()
+                        .idStudentCourse(studentCourseIds.get(key))
+                        .idUser(key.get(0))
+                        .idCourse(key.get(1))
+                        .idStatus(statuses.get(key))
+                        .numTimesTaken(timesTaken.get(key))
+                        .build())
+                .toList());
+        when(repository.findStatusRowsByUser(any())).thenAnswer(call -> keysOf(call.getArgument(0)).stream()
+                .map(key -> new StudentCourseStatusRow(studentCourseIds.get(key), key.get(1),
+                        courses.get(key.get(1)).getIdStudyPlan(), statuses.get(key)))
+                .toList());
+        doAnswer(call -> {
+            Integer userId = call.getArgument(0);
+            for (StudentCourseData row : call.<List<StudentCourseData>>getArgument(1)) {
+                setStatus(userId, row.getIdCourse(), row.getIdStatus());
+                timesTaken.put(List.of(userId, row.getIdCourse()), row.getNumTimesTaken());
+            }
+            return null;
+        }).when(repository).batchUpsert(any(), any());
+        doAnswer(call -> {
+            Map<Integer, Integer> statusById = call.getArgument(0);
+            studentCourseIds.forEach((key, id) -> {
+                if (statusById.containsKey(id)) statuses.put(key, statusById.get(id));
+            });
+            return null;
+        }).when(repository).batchUpdateStatus(any());
+        return repository;
+    }
+
+    // A user's student_courses rows, joined to course like the projection queries
+    private List<List<Integer>> keysOf(Integer userId) {
+        return statuses.keySet().stream()
+                .filter(key -> key.get(0).equals(userId) && courses.containsKey(key.get(1)))
+                .sorted(StudyPlanTables::compareKeys)
+                .toList();
+    }
+
+    private StudentCourse studentCourse(List<Integer> key) {
+        return StudentCourse.builder()
+                .idStudentCourse(studentCourseIds.get(key))
+                .user(User.builder().idUser(key.get(0)).build())
+                .course(courses.get(key.get(1)))
+                .status(Status.builder().idStatus(statuses.get(key)).build())
+                .numTimesTaken(timesTaken.get(key))
+                .build();
+    }
+
+    private int adjustApproved(Integer userId, Integer planId, int deltaCourses, int deltaCredits) {
+        List<Integer> row = progress.get(List.of(userId, planId));
+        if (row == null) return 0;
+        progress.put(List.of(userId, planId), List.of(row.get(0) + deltaCourses, row.get(1), row.get(2) + deltaCredits));
+        return 1;
+    }
+
+    // UPDATE ... JOIN student_courses: every progress row of the plan whose user passed the course
+    private int removeApprovedCourse(Integer planId, Integer courseId, int credits) {
+        int updated = 0;
+        for (Map.Entry<List<Integer>, List<Integer>> entry : progress.entrySet()) {
+            List<Integer> key = entry.getKey();
+            if (key.get(1).equals(planId) && Objects.equals(status(key.get(0), courseId), STATUS_PASSED)) {
+                List<Integer> row = entry.getValue();
+                entry.setValue(List.of(row.get(0) - 1, row.get(1), row.get(2) - credits));
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private int adjustTotalCourses(Integer planId, int delta) {
+        int updated = 0;
+        for (Map.Entry<List<Integer>, List<Integer>> entry : progress.entrySet()) {
+            if (entry.getKey().get(1).equals(planId)) {
+                List<Integer> row = entry.getValue();
+                entry.setValue(List.of(row.get(0), row.get(1) + delta, row.get(2)));
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private int rebuildWhere(Predicate<List<Integer>> filter) {
+        int rows = 0;
+        for (List<Integer> userPlan : userPlans) {
+            if (filter.test(userPlan)) {
+                progress.put(userPlan, rebuilt(userPlan.get(0), userPlan.get(1)));
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private List<Integer> rebuilt(int userId, int planId) {
+        int approved = 0, total = 0, credits = 0;
+        for (Course course : courses.values()) {
+            if (course.getIdStudyPlan() != planId) continue;
+            total++;
+            if (Objects.equals(status(userId, course.getIdCourse()), STATUS_PASSED)) {
+                approved++;
+                credits += course.getNumCredits() != null ? course.getNumCredits() : 0;
+            }
+        }
+        return List.of(approved, total, credits);
+    }
+
+    private static int compareKeys(List<Integer> a, List<Integer> b) {
+        int byFirst = Integer.compare(a.get(0), b.get(0));
+        return byFirst != 0 ? byFirst : Integer.compare(a.get(1), b.get(1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.studyplan.studyPlanMicroservice.service;
+
+import com.studyplan.studyPlanMicroservice.data.StudentCourseStatusRow;
+import com.studyplan.studyPlanMicroservice.domain.Course;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.studyplan.studyPlanMicroservice.service.RequirementGraphTest.course;
+import static com.studyplan.studyPlanMicroservice.service.RequirementGraphTest.prerequisite;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_AVAILABLE;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_IN_PROGRESS;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_LOCKED;
+import static com.studyplan.studyPlanMicroservice.service.StudentCourseService.STATUS_PASSED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnlockEngineTest {
+
+    private final UnlockEngine engine = new UnlockEngine();
+
+    // 1 -> 2 -> 3, and 4 needs both 1 and 2
+    private final RequirementGraph chain = RequirementGraph.build(1,
+            List.of(course(1, 3), course(2, 3), course(3, 3), course(4, 3)),
+            List.of(prerequisite(2, 1), prerequisite(3, 2), prerequisite(4, 1), prerequisite(4, 2)));
+
+    @Test
+    void passingACourseUnlocksOnlyDependentsWhosePrerequisitesAreAllMet() {
+        List<StudentCourseStatusRow> rows = List.of(
+                row(1, 1, STATUS_PASSED), row(2, 1, STATUS_LOCKED), row(3, 1, STATUS_LOCKED), row(4, 1, STATUS_LOCKED));
+
+        Map<Integer, Integer> targets = engine.evaluate(chain, rows, List.of(1));
+
+        assertEquals(Map.of(2, STATUS_AVAILABLE), targets);
+    }
+
+    @Test
+    void unpassingACourseRelocksAvailableDependents() {
+        List<StudentCourseStatusRow> rows = List.of(
+                row(1, 1, STATUS_AVAILABLE), row(2, 1, STATUS_AVAILABLE), row(3, 1, STATUS_LOCKED), row(4, 1, STATUS_AVAILABLE));
+
+        Map<Integer, Integer> targets = engine.evaluate(chain, rows, List.of(1));
+
+        assertEquals(Map.of(2, STATUS_LOCKED, 4, STATUS_LOCKED), targets);
+    }
+
+    @Test
+    void manualStatusesAndChangedCoursesAreLeftAlone() {
+        List<StudentCourseStatusRow> rows = List.of(
+                row(1, 1, STATUS_PASSED), row(2, 1, STATUS_IN_PROGRESS), row(3, 1, STATUS_LOCKED), row(4, 1, STATUS_LOCKED));
+
+        Map<Integer, Integer> targets = engine.evaluate(chain, rows, List.of(1, 4));
+
+        assertTrue(targets.isEmpty(), "IN_PROGRESS and the changed course 4 keep their status: " + targets);
+    }
+
+    @Test
+    void fullEvaluationCoversEveryPlanCourse() {
+        List<StudentCourseStatusRow> rows = List.of(
+                row(1, 1, STATUS_LOCKED), row(2, 1, STATUS_AVAILABLE), row(3, 1, STATUS_LOCKED), row(4, 1, STATUS_LOCKED));
+
+        Map<Integer, Integer> targets = engine.evaluate(chain, rows, null);
+
+        assertEquals(Map.of(1, STATUS_AVAILABLE, 2, STATUS_LOCKED), targets);
+    }
+
+    @Test
+    void externalPrerequisiteFromAnotherPlanUnlocksDependent() {
+        // Plan 2's course 20 requires course 1 of plan 1
+        RequirementGraph otherPlan = RequirementGraph.build(2,
+                List.of(Course.builder().idCourse(20).idStudyPlan(2).numCredits(3).build()),
+                List.of(prerequisite(20, 1)));
+        List<StudentCourseStatusRow> rows = List.of(row(1, 1, STATUS_PASSED), row(20, 2, STATUS_LOCKED));
+
+        assertEquals(Map.of(20, STATUS_AVAILABLE), engine.evaluate(otherPlan, rows, List.of(1)));
+
+        List<StudentCourseStatusRow> unpassed = List.of(row(1, 1, STATUS_AVAILABLE), row(20, 2, STATUS_AVAILABLE));
+        assertEquals(Map.of(20, STATUS_LOCKED), engine.evaluate(otherPlan, unpassed, List.of(1)));
+    }
+
+    private static StudentCourseStatusRow row(int courseId, int planId, int status) {
+        return new StudentCourseStatusRow(courseId * 100, courseId, planId, status);
+    }
+}